@@ -3,29 +3,58 @@ package com.thoughtworks.hpc.akka.performance.measuring;
 import akka.actor.typed.ActorRef;
 import akka.actor.typed.ActorSystem;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 public class AppMain {
 
-    private static void tellSync(ActorRef<RootActor.Command> rootActor, RootActor.Command command) throws InterruptedException {
+    private static boolean flightRecording = false;
+
+    private static void tellSync(ActorRef<RootActor.Command> rootActor, RootActor.Command command) throws InterruptedException, IOException {
+        FlightRecording recording = flightRecording ? FlightRecording.start(command.name()) : null;
         rootActor.tell(command);
         command.finish.await();
+        if (recording != null) {
+            // not appended to out.txt, statisticize_script.sh expects fixed-length sections there
+            System.out.println(recording.stopAndSummarize());
+        }
+    }
+
+    /**
+     * Checks a choice argument before it reaches {@link RootActor}, where an unknown one would fail the guardian and
+     * leave {@link #tellSync} waiting forever.
+     */
+    private static boolean isChoice(String value, List<String> choices, boolean allowAll) {
+        return allowAll && value.equals("all") || choices.contains(value);
     }
 
-    public static void main(String[] cliArgs) throws InterruptedException {
+    public static void main(String[] cliArgs) throws InterruptedException, IOException {
         Scanner scanner = new Scanner(System.in);
         boolean scriptMode = false;
 
         for (String cliArg : cliArgs) {
             if (cliArg.equals("--scriptMode")) {
                 scriptMode = true;
-                break;
+            }
+            if (cliArg.equals("--jfr")) {
+                try {
+                    Class.forName("jdk.jfr.Recording");
+                } catch (ClassNotFoundException e) {
+                    System.err.println("--jfr needs the jdk.jfr API of JDK 8u262 or newer, this is " + System.getProperty("java.version"));
+                    System.exit(1);
+                }
+                flightRecording = true;
             }
         }
 
         ActorSystem<RootActor.Command> system = ActorSystem.create(RootActor.create(), "akka-performance-measuring");
         int n;
         int parallelism;
+        int nodeCount;
+        Map<String, Scenario> scenarios = ScenarioHarness.scenarios();
 
         while (true) {
             if (!scriptMode) {
@@ -96,6 +125,170 @@ public class AppMain {
                     int pairCount = 10_000;
                     tellSync(system, new RootActor.HandlePingThroughput(n, pairCount));
                     break;
+                case "dispatch":
+                    // dispatch n [1|8|32|128|all] [receive-builder|switch|visitor|all] [early|middle|late|mixed|all]
+                    n = Integer.parseInt(args[1]);
+                    String width = "all";
+                    String style = "all";
+                    String position = "all";
+                    if (args.length > 2) {
+                        width = args[2].toLowerCase();
+                    }
+                    if (args.length > 3) {
+                        style = args[3].toLowerCase();
+                    }
+                    if (args.length > 4) {
+                        position = args[4].toLowerCase();
+                    }
+                    if (!isChoice(width, RootActor.DISPATCH_WIDTHS, true)
+                            || !isChoice(style, RootActor.DISPATCH_STYLES, true)
+                            || !isChoice(position, RootActor.DISPATCH_POSITIONS, true)) {
+                        System.out.println("usage: dispatch n [1|8|32|128|all] [receive-builder|switch|visitor|all] [early|middle|late|mixed|all]");
+                        break;
+                    }
+                    tellSync(system, new RootActor.HandleDispatch(n, width, style, position));
+                    break;
+                case "blocking-isolation":
+                    // blocking-isolation n [default|dedicated|future|all] [blocking-share%] [sleep|file] [block-ms]
+                    n = Integer.parseInt(args[1]);
+                    String mode = "all";
+                    int blockingShare = 50;
+                    String io = "sleep";
+                    int blockMillis = 10;
+                    if (args.length > 2) {
+                        mode = args[2].toLowerCase();
+                    }
+                    if (args.length > 3) {
+                        blockingShare = Integer.parseInt(args[3]);
+                    }
+                    if (args.length > 4) {
+                        io = args[4].toLowerCase();
+                    }
+                    if (args.length > 5) {
+                        blockMillis = Integer.parseInt(args[5]);
+                    }
+                    if (n < RootActor.BLOCKING_ACTORS || blockingShare < 0 || blockingShare > 100 || blockMillis < 0
+                            || !isChoice(mode, RootActor.BLOCKING_MODES, true) || !isChoice(io, RootActor.BLOCKING_IOS, false)) {
+                        // n is rounded down to a multiple of the non-blocking actors
+                        System.out.println("usage: blocking-isolation n [default|dedicated|future|all] [blocking-share%] [sleep|file] [block-ms], n >= "
+                                + RootActor.BLOCKING_ACTORS);
+                        break;
+                    }
+                    tellSync(system, new RootActor.HandleBlockingIsolation(n, mode, blockingShare, io, blockMillis));
+                    break;
+                case "classic-initiation":
+                    n = Integer.parseInt(args[1]);
+                    tellSync(system, new RootActor.HandleClassicInitiation(n));
+                    break;
+                case "classic-single-producer-sending":
+                    n = Integer.parseInt(args[1]);
+                    tellSync(system, new RootActor.HandleClassicSingleProducerSending(n));
+                    break;
+                case "classic-max-throughput":
+                    // classic-max-throughput n [p]
+                    n = Integer.parseInt(args[1]);
+                    parallelism = 10;
+                    if (args.length > 2) {
+                        parallelism = Integer.parseInt(args[2]);
+                    }
+                    tellSync(system, new RootActor.HandleClassicMaxThroughput(n, parallelism));
+                    break;
+                case "classic-ping-latency":
+                    n = Integer.parseInt(args[1]);
+                    tellSync(system, new RootActor.HandleClassicPingLatency(n));
+                    break;
+                case "classic-ping-throughput-10k":
+                    n = Integer.parseInt(args[1]);
+                    tellSync(system, new RootActor.HandleClassicPingThroughput(n, 10_000));
+                    break;
+                case "sharding":
+                    // sharding n [nodes] [shards] [entities] [remember-entities on|off]
+                    n = Integer.parseInt(args[1]);
+                    nodeCount = 3;
+                    int shardCount = 100;
+                    int entityCount = 10_000;
+                    boolean rememberEntities = false;
+                    if (args.length > 2) {
+                        nodeCount = Integer.parseInt(args[2]);
+                    }
+                    if (args.length > 3) {
+                        shardCount = Integer.parseInt(args[3]);
+                    }
+                    if (args.length > 4) {
+                        entityCount = Integer.parseInt(args[4]);
+                    }
+                    if (args.length > 5) {
+                        rememberEntities = args[5].equalsIgnoreCase("on");
+                    }
+                    if (n < entityCount || nodeCount < 1 || nodeCount > 3 || shardCount < 1 || entityCount < 1) {
+                        // n is rounded down to a multiple of the entities, 0 would wait for messages never sent
+                        System.out.println("usage: sharding n [1-3 nodes] [shards] [entities] [remember-entities on|off], n >= entities");
+                        break;
+                    }
+                    tellSync(system, new RootActor.HandleSharding(n, nodeCount, shardCount, entityCount, rememberEntities));
+                    break;
+                case "ddata":
+                    // ddata n [nodes] [local|majority|all] [counters] [gcounter|ormap]
+                    n = Integer.parseInt(args[1]);
+                    nodeCount = 3;
+                    String writeConsistency = "local";
+                    int counterCount = 1_000;
+                    String dataType = "gcounter";
+                    if (args.length > 2) {
+                        nodeCount = Integer.parseInt(args[2]);
+                    }
+                    if (args.length > 3) {
+                        writeConsistency = args[3].toLowerCase();
+                    }
+                    if (args.length > 4) {
+                        counterCount = Integer.parseInt(args[4]);
+                    }
+                    if (args.length > 5) {
+                        dataType = args[5].toLowerCase();
+                    }
+                    if (n < 1 || nodeCount < 1 || counterCount < 1
+                            || !isChoice(writeConsistency, RootActor.DDATA_WRITE_CONSISTENCIES, false)
+                            || !isChoice(dataType, ReplicatedCounters.TYPES, false)) {
+                        // 0 updates would never complete the update phase
+                        System.out.println("usage: ddata n [nodes] [local|majority|all] [counters] [gcounter|ormap], n >= 1");
+                        break;
+                    }
+                    tellSync(system, new RootActor.HandleDistributedData(n, nodeCount, writeConsistency, counterCount, dataType));
+                    break;
+                case "cold-start":
+                    // cold-start [runs] [seconds] [jvm-options...]
+                    int runs = 5;
+                    int seconds = 10;
+                    if (args.length > 1) {
+                        runs = Integer.parseInt(args[1]);
+                    }
+                    if (args.length > 2) {
+                        seconds = Integer.parseInt(args[2]);
+                    }
+                    if (runs < 1 || seconds < 1) {
+                        System.out.println("usage: cold-start [runs] [seconds] [jvm-options...], runs >= 1, seconds >= 1");
+                        break;
+                    }
+                    String result = ColdStart.run(runs, seconds, Arrays.asList(args).subList(Math.min(args.length, 3), args.length));
+                    System.out.println(result);
+                    ResultFile.append(result);
+                    break;
+                default:
+                    // <command> n [parameters...] of a Scenario on the class path
+                    Scenario scenario = scenarios.get(command);
+                    if (scenario == null) {
+                        break;
+                    }
+                    Parameters parameters;
+                    try {
+                        n = Integer.parseInt(args[1]);
+                        parameters = Parameters.parse(scenario, Arrays.asList(args).subList(2, args.length));
+                    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                        System.out.println("usage: " + Parameters.usage(scenario));
+                        break;
+                    }
+                    tellSync(system, new RootActor.HandleScenario(n, scenario, parameters));
+                    break;
             }
         }
     }
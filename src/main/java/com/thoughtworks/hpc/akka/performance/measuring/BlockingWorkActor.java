@@ -0,0 +1,101 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps doing simulated blocking I/O until it is sent {@link Stop}, either on the thread it runs on
+ * or offloaded to {@code executor} and piped back to itself.
+ */
+public class BlockingWorkActor extends AbstractBehavior<BlockingWorkActor.Command> {
+    public interface Command {
+    }
+
+    public static class Work implements Command {
+    }
+
+    /**
+     * Stops the actor once the work in progress completes, so the next {@link Work} is not left behind as a dead letter.
+     */
+    public static class Stop implements Command {
+    }
+
+    /**
+     * One unit of blocking work: sleeping for {@code blockMillis}, or reading {@code file} when it is set.
+     */
+    public static class BlockingIo {
+        private final int blockMillis;
+        private final Path file;
+
+        public BlockingIo(int blockMillis, Path file) {
+            this.blockMillis = blockMillis;
+            this.file = file;
+        }
+
+        void run() {
+            try {
+                if (file == null) {
+                    Thread.sleep(blockMillis);
+                } else {
+                    Files.readAllBytes(file);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final Work WORK = new Work();
+
+    public static Behavior<Command> create(BlockingIo blockingIo, Executor offloadExecutor) {
+        return Behaviors.setup(context -> new BlockingWorkActor(context, blockingIo, offloadExecutor));
+    }
+
+    private final BlockingIo blockingIo;
+    private final Executor offloadExecutor;
+    private boolean stopping;
+
+    private BlockingWorkActor(ActorContext<Command> context, BlockingIo blockingIo, Executor offloadExecutor) {
+        super(context);
+        this.blockingIo = blockingIo;
+        this.offloadExecutor = offloadExecutor;
+    }
+
+    @Override
+    public Receive<Command> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(Work.class, this::onWork)
+                .onMessage(Stop.class, this::onStop)
+                .build();
+    }
+
+    private Behavior<Command> onStop(Stop stop) {
+        stopping = true;
+        return this;
+    }
+
+    private Behavior<Command> onWork(Work work) {
+        if (stopping) {
+            return Behaviors.stopped();
+        }
+        if (offloadExecutor == null) {
+            blockingIo.run();
+            getContext().getSelf().tell(WORK);
+        } else {
+            getContext().pipeToSelf(CompletableFuture.runAsync(blockingIo::run, offloadExecutor), (notUsed, e) -> WORK);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,4 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+public interface CborSerializable {
+}
@@ -0,0 +1,38 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+
+import java.util.concurrent.CountDownLatch;
+
+public class ClassicCountActor extends AbstractActor {
+    public static class EmptyMessage {
+    }
+
+    public static Props props(CountDownLatch finishLatch, int n) {
+        return Props.create(ClassicCountActor.class, () -> new ClassicCountActor(finishLatch, n));
+    }
+
+    private final CountDownLatch finishLatch;
+    private int i;
+
+    private ClassicCountActor(CountDownLatch finishLatch, int n) {
+        this.finishLatch = finishLatch;
+        i = n;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(EmptyMessage.class, this::onEmptyMessage)
+                .build();
+    }
+
+    private void onEmptyMessage(EmptyMessage emptyMessage) {
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            getContext().stop(getSelf());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+
+public class ClassicMinimalActor extends AbstractActor {
+    public static Props props() {
+        return Props.create(ClassicMinimalActor.class, ClassicMinimalActor::new);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder().build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.CountDownLatch;
+
+public class ClassicPingLatencyActor extends AbstractActor {
+    private final LatencyHistogram latencyHistogram;
+
+    @AllArgsConstructor
+    public static class PingLatencyMessage {
+        ActorRef sender;
+    }
+
+    public static Props props(CountDownLatch finishLatch, int n, LatencyHistogram latencyHistogram) {
+        return Props.create(ClassicPingLatencyActor.class, () -> new ClassicPingLatencyActor(finishLatch, n, latencyHistogram));
+    }
+
+    private final CountDownLatch finishLatch;
+    private int i;
+
+    private ClassicPingLatencyActor(CountDownLatch finishLatch, int n, LatencyHistogram latencyHistogram) {
+        this.finishLatch = finishLatch;
+        this.latencyHistogram = latencyHistogram;
+        this.i = n;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(PingLatencyMessage.class, this::onPingLatencyMessage)
+                .build();
+    }
+
+    private void onPingLatencyMessage(PingLatencyMessage pingLatencyMessage) {
+        latencyHistogram.record();
+        if (i > 0 && pingLatencyMessage.sender != null) {
+            ActorRef newSender = null;
+            if (i > 1) {
+                newSender = getSelf();
+            }
+            PingLatencyMessage newMessage = new PingLatencyMessage(newSender);
+            pingLatencyMessage.sender.tell(newMessage, ActorRef.noSender());
+        }
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            getContext().stop(getSelf());
+        }
+    }
+}
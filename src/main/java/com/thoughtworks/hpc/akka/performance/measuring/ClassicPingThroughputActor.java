@@ -0,0 +1,52 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.CountDownLatch;
+
+public class ClassicPingThroughputActor extends AbstractActor {
+
+    @AllArgsConstructor
+    public static class PingThroughputMessage {
+        ActorRef sender;
+    }
+
+    public static Props props(CountDownLatch finishLatch, int n) {
+        return Props.create(ClassicPingThroughputActor.class, () -> new ClassicPingThroughputActor(finishLatch, n));
+    }
+
+    private int i;
+    private final CountDownLatch finishLatch;
+
+    private ClassicPingThroughputActor(CountDownLatch finishLatch, int n) {
+        this.finishLatch = finishLatch;
+        this.i = n;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(PingThroughputMessage.class, this::onPingThroughputMessage)
+                .build();
+    }
+
+    private void onPingThroughputMessage(PingThroughputMessage pingThroughputMessage) {
+        if (i > 0 && pingThroughputMessage.sender != null) {
+            ActorRef newSender = null;
+            if (i > 1) {
+                newSender = getSelf();
+            }
+            PingThroughputMessage newMessage = new PingThroughputMessage(newSender);
+            pingThroughputMessage.sender.tell(newMessage, ActorRef.noSender());
+        }
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            getContext().stop(getSelf());
+        }
+    }
+
+}
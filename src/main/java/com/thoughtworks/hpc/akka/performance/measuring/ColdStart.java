@@ -0,0 +1,164 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Props;
+import akka.actor.typed.javadsl.Behaviors;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures what a freshly launched JVM pays before it is fast: {@link ActorSystem} creation, the first processed
+ * message and the per-second throughput of single-producer sending while the JIT warms up.
+ * <p>
+ * {@link #run} launches {@link #main} in child JVMs with the given JVM options, e.g. CDS/AppCDS archives or
+ * tiered-compilation flags, and aggregates what the children print. Runs whose child fails, e.g. on an unsupported
+ * option, are left out of the averages and reported as failed.
+ */
+public class ColdStart {
+    private static final int BATCH_SIZE = 10_000;
+    private static final long NANOS_PER_SECOND = 1000_000_000L;
+    private static final String JVM_START_TO_MAIN = "jvm-start-to-main-ms";
+    private static final String ACTOR_SYSTEM_CREATION = "actor-system-creation-ns";
+    private static final String FIRST_MESSAGE = "first-message-ns";
+    private static final String WARM_UP_SECOND = "warm-up-second";
+
+    public static void main(String[] args) throws InterruptedException {
+        long jvmStartToMain = ManagementFactory.getRuntimeMXBean().getUptime();
+        int seconds = Integer.parseInt(args[0]);
+
+        long start = System.nanoTime();
+        ActorSystem<Void> system = ActorSystem.create(Behaviors.empty(), "akka-performance-measuring-cold-start");
+        long actorSystemCreation = System.nanoTime() - start;
+
+        CountDownLatch firstLatch = new CountDownLatch(1);
+        ActorRef<CountActor.Command> firstActor = system.systemActorOf(CountActor.create(firstLatch, 1), "first", Props.empty());
+        firstActor.tell(new CountActor.EmptyMessage());
+        firstLatch.await();
+        long firstMessage = System.nanoTime() - start;
+
+        System.out.println(JVM_START_TO_MAIN + " " + jvmStartToMain);
+        System.out.println(ACTOR_SYSTEM_CREATION + " " + actorSystemCreation);
+        System.out.println(FIRST_MESSAGE + " " + firstMessage);
+        System.out.flush();
+
+        long[] opsPerSecond = new long[seconds];
+        CountActor.EmptyMessage emptyMessage = new CountActor.EmptyMessage();
+        long warmUpStart = System.nanoTime();
+        for (int batch = 0; ; batch++) {
+            CountDownLatch finishLatch = new CountDownLatch(1);
+            ActorRef<CountActor.Command> actor = system.systemActorOf(CountActor.create(finishLatch, BATCH_SIZE), "warm-up-" + batch, Props.empty());
+            long batchStart = System.nanoTime() - warmUpStart;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                actor.tell(emptyMessage);
+            }
+            finishLatch.await();
+            long batchEnd = System.nanoTime() - warmUpStart;
+            credit(opsPerSecond, batchStart, batchEnd, BATCH_SIZE);
+            if (batchEnd >= seconds * NANOS_PER_SECOND) {
+                break;
+            }
+        }
+        for (int second = 0; second < seconds; second++) {
+            System.out.println(WARM_UP_SECOND + " " + second + " " + opsPerSecond[second]);
+        }
+
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    /**
+     * Spreads the ops of a batch evenly over the seconds between {@code start} and {@code end}, so a batch that spans a
+     * second boundary is not credited to the second it finishes in only.
+     */
+    private static void credit(long[] opsPerSecond, long start, long end, long ops) {
+        long duration = Math.max(1, end - start);
+        for (long second = start / NANOS_PER_SECOND; second < opsPerSecond.length && second * NANOS_PER_SECOND < end; second++) {
+            long overlap = Math.min(end, (second + 1) * NANOS_PER_SECOND) - Math.max(start, second * NANOS_PER_SECOND);
+            opsPerSecond[(int) second] += ops * overlap / duration;
+        }
+    }
+
+    public static String run(int runs, int seconds, List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ColdStart.class.getName());
+        command.add(String.valueOf(seconds));
+
+        long launchToFirstMessage = 0;
+        long jvmStartToMain = 0;
+        long actorSystemCreation = 0;
+        long firstMessage = 0;
+        long[] opsPerSecond = new long[seconds];
+        int failedRuns = 0;
+        for (int run = 0; run < runs; run++) {
+            long runLaunchToFirstMessage = 0;
+            long runJvmStartToMain = 0;
+            long runActorSystemCreation = 0;
+            long runFirstMessage = 0;
+            long[] runOpsPerSecond = new long[seconds];
+            StringBuilder output = new StringBuilder();
+            long launch = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append('\n');
+                    String[] fields = line.split(" ");
+                    switch (fields[0]) {
+                        case JVM_START_TO_MAIN:
+                            runJvmStartToMain = Long.parseLong(fields[1]);
+                            break;
+                        case ACTOR_SYSTEM_CREATION:
+                            runActorSystemCreation = Long.parseLong(fields[1]);
+                            break;
+                        case FIRST_MESSAGE:
+                            runLaunchToFirstMessage = System.nanoTime() - launch;
+                            runFirstMessage = Long.parseLong(fields[1]);
+                            break;
+                        case WARM_UP_SECOND:
+                            runOpsPerSecond[Integer.parseInt(fields[1])] = Long.parseLong(fields[2]);
+                            break;
+                    }
+                }
+            }
+            if (process.waitFor() != 0) {
+                System.err.printf("cold start run %d exited with %d:%n%s", run + 1, process.exitValue(), output);
+                failedRuns++;
+                continue;
+            }
+            launchToFirstMessage += runLaunchToFirstMessage;
+            jvmStartToMain += runJvmStartToMain;
+            actorSystemCreation += runActorSystemCreation;
+            firstMessage += runFirstMessage;
+            for (int second = 0; second < seconds; second++) {
+                opsPerSecond[second] += runOpsPerSecond[second];
+            }
+        }
+
+        int succeededRuns = runs - failedRuns;
+        StringBuilder result = new StringBuilder(String.format(
+                "Cold start:\n\t%d runs\n\t%d failed\n\tjvm options: %s\n\t%s ns launch to first message\n\t%s ms jvm start to main\n\t%s ns actor system creation\n\t%s ns first message\n",
+                runs, failedRuns, String.join(" ", jvmOptions), average(launchToFirstMessage, succeededRuns),
+                average(jvmStartToMain, succeededRuns), average(actorSystemCreation, succeededRuns),
+                average(firstMessage, succeededRuns)));
+        for (int second = 0; second < seconds; second++) {
+            result.append(String.format("\t%ds: %s ops/s\n", second + 1, average(opsPerSecond[second], succeededRuns)));
+        }
+        return result.toString();
+    }
+
+    private static String average(long total, int runs) {
+        return runs == 0 ? "n/a" : String.valueOf(total / runs);
+    }
+}
@@ -0,0 +1,156 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A JDK Flight Recorder recording around one scenario, dumped to {@code jfr/<start-millis>-<name>.jfr} and summarized
+ * as hot methods, monitor and park contention, allocation hotspots and GC pauses into a {@code .txt} next to it. Parks
+ * of idle dispatcher workers on their fork-join pool are reported as idle time, not as contention.
+ */
+public class FlightRecording {
+    private static final Path DIRECTORY = Paths.get("jfr");
+    private static final Duration CONTENTION_THRESHOLD = Duration.ofMillis(1);
+    private static final int HOT_METHODS = 10;
+    private static final int TOP = 5;
+
+    private static class Total {
+        long count;
+        long value;
+    }
+
+    public static FlightRecording start(String name) throws IOException {
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+        recording.enable("jdk.JavaMonitorEnter").withThreshold(CONTENTION_THRESHOLD);
+        recording.enable("jdk.ThreadPark").withThreshold(CONTENTION_THRESHOLD);
+        recording.enable("jdk.ObjectAllocationInNewTLAB");
+        recording.enable("jdk.ObjectAllocationOutsideTLAB");
+        recording.start();
+        return new FlightRecording(recording, DIRECTORY.resolve(System.currentTimeMillis() + "-" + name + ".jfr"));
+    }
+
+    private final Recording recording;
+    private final Path path;
+
+    private FlightRecording(Recording recording, Path path) {
+        this.recording = recording;
+        this.path = path;
+    }
+
+    public String stopAndSummarize() throws IOException {
+        recording.stop();
+        Files.createDirectories(DIRECTORY);
+        recording.dump(path);
+        recording.close();
+
+        Map<String, Total> hotMethods = new HashMap<>();
+        Map<String, Total> contention = new HashMap<>();
+        Map<String, Total> allocations = new HashMap<>();
+        Total idleParks = new Total();
+        Total gcPauses = new Total();
+        long longestGcPause = 0;
+        long samples = 0;
+        // streamed, the recording can hold millions of events
+        try (RecordingFile recordingFile = new RecordingFile(path)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample":
+                        add(hotMethods, topFrame(event), 1);
+                        samples++;
+                        break;
+                    case "jdk.JavaMonitorEnter":
+                        add(contention, "monitor " + className(event.getClass("monitorClass")), event.getDuration().toNanos());
+                        break;
+                    case "jdk.ThreadPark":
+                        String parkedClass = className(event.getClass("parkedClass"));
+                        if (parkedClass.endsWith("ForkJoinPool")) {
+                            idleParks.count++;
+                            idleParks.value += event.getDuration().toNanos();
+                        } else {
+                            add(contention, "park " + parkedClass, event.getDuration().toNanos());
+                        }
+                        break;
+                    case "jdk.ObjectAllocationInNewTLAB":
+                        add(allocations, className(event.getClass("objectClass")) + " at " + topFrame(event), event.getLong("tlabSize"));
+                        break;
+                    case "jdk.ObjectAllocationOutsideTLAB":
+                        add(allocations, className(event.getClass("objectClass")) + " at " + topFrame(event), event.getLong("allocationSize"));
+                        break;
+                    case "jdk.GarbageCollection":
+                        gcPauses.count++;
+                        gcPauses.value += event.getDuration("sumOfPauses").toNanos();
+                        longestGcPause = Math.max(longestGcPause, event.getDuration("longestPause").toNanos());
+                        break;
+                }
+            }
+        }
+
+        StringBuilder result = new StringBuilder(String.format("Flight recording (%s):\n", path));
+        result.append(String.format("\t%d execution samples, hot methods:\n", samples));
+        for (Map.Entry<String, Total> method : top(hotMethods, HOT_METHODS)) {
+            result.append(String.format("\t\t%5.1f%% %s\n", 100.0 * method.getValue().count / samples, method.getKey()));
+        }
+        result.append(String.format("\tcontention over %d ms:\n", CONTENTION_THRESHOLD.toMillis()));
+        for (Map.Entry<String, Total> blocked : top(contention, TOP)) {
+            result.append(String.format("\t\t%d events, %d ns %s\n", blocked.getValue().count, blocked.getValue().value, blocked.getKey()));
+        }
+        result.append(String.format("\tidle dispatcher workers: %d parks, %d ns\n", idleParks.count, idleParks.value));
+        result.append("\tallocation hotspots:\n");
+        for (Map.Entry<String, Total> allocation : top(allocations, TOP)) {
+            result.append(String.format("\t\t%d bytes %s\n", allocation.getValue().value, allocation.getKey()));
+        }
+        result.append(String.format("\t%d gc, %d ns paused, %d ns longest pause\n", gcPauses.count, gcPauses.value, longestGcPause));
+        String summary = result.toString();
+        Files.write(Paths.get(path.toString().replaceFirst("\\.jfr$", ".txt")), summary.getBytes(StandardCharsets.UTF_8));
+        return summary;
+    }
+
+    private static void add(Map<String, Total> totals, String key, long value) {
+        Total total = totals.computeIfAbsent(key, k -> new Total());
+        total.count++;
+        total.value += value;
+    }
+
+    private static List<Map.Entry<String, Total>> top(Map<String, Total> totals, int limit) {
+        return totals.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().value, a.getValue().value))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return className(frame.getMethod().getType()) + "." + frame.getMethod().getName();
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass == null ? "<unknown>" : recordedClass.getName();
+    }
+}
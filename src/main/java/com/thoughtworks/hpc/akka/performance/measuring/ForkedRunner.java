@@ -0,0 +1,188 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs every scenario line of a script like {@code test.in.txt} in its own {@link AppMain} JVM, once per JVM option set
+ * of a matrix file, and compares the results of each scenario across the option sets.
+ * <p>
+ * Each matrix line is {@code name: jvm options}; blank lines and lines starting with {@code #} are skipped. A child
+ * that fails, e.g. because the JVM does not support a collector, or that runs longer than the timeout, 30 minutes by
+ * default, is reported as {@code n/a}.
+ */
+public class ForkedRunner {
+    private static final long DEFAULT_TIMEOUT_MINUTES = 30;
+    // ops/s, or the scenario's own unit such as hops/s
+    private static final Pattern THROUGHPUT = Pattern.compile("\t(\\d+) \\w+/s");
+    private static final Pattern P50 = Pattern.compile("\tp\\(0\\.50000\\) = +(\\d+) ns/\\w+");
+
+    private static class Metrics {
+        long opsPerSecond;
+        int opsPerSecondCount;
+        long p50;
+        int p50Count;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("usage: ForkedRunner <matrix-file> <scenario-file> [timeout-minutes]");
+            System.exit(1);
+        }
+        Map<String, List<String>> matrix = readMatrix(Paths.get(args[0]));
+        long timeoutMinutes = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_TIMEOUT_MINUTES;
+        List<String> scenarios = Files.readAllLines(Paths.get(args[1])).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.equals("q") && !line.equals("quit"))
+                .collect(Collectors.toList());
+
+        // label -> option set name -> metrics, in the order the labels first appear
+        Map<String, Map<String, Metrics>> results = new LinkedHashMap<>();
+        for (String scenario : scenarios) {
+            for (Map.Entry<String, List<String>> options : matrix.entrySet()) {
+                System.out.printf("%s [%s]%n", scenario, options.getKey());
+                String out = runChild(scenario, options.getValue(), timeoutMinutes);
+                if (out == null) {
+                    continue;
+                }
+                parse(out, options.getKey(), results);
+            }
+        }
+
+        String result = format(results, matrix.keySet());
+        System.out.println(result);
+        ResultFile.append(result);
+    }
+
+    private static Map<String, List<String>> readMatrix(Path path) throws IOException {
+        Map<String, List<String>> matrix = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("matrix line is not 'name: jvm options': " + line);
+            }
+            String options = line.substring(colon + 1).trim();
+            matrix.put(line.substring(0, colon).trim(),
+                    options.isEmpty() ? new ArrayList<>() : Arrays.asList(options.split("\\s+")));
+        }
+        return matrix;
+    }
+
+    /**
+     * Runs one scenario line in a fresh JVM inside a temporary directory and returns the {@code out.txt} it wrote, or
+     * {@code null} if the child failed or did not exit within {@code timeoutMinutes}.
+     */
+    private static String runChild(String scenario, List<String> jvmOptions, long timeoutMinutes) throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("akka-performance-measuring-");
+        Path log = directory.resolve("child.log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(absoluteClassPath());
+        command.add(AppMain.class.getName());
+        command.add("--scriptMode");
+
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try (OutputStream stdin = process.getOutputStream()) {
+            stdin.write((scenario + "\nq\n").getBytes(StandardCharsets.UTF_8));
+        }
+        if (!process.waitFor(timeoutMinutes, TimeUnit.MINUTES)) {
+            process.destroyForcibly().waitFor();
+            System.err.printf("\ttimed out after %d minutes, see %s%n", timeoutMinutes, log);
+            return null;
+        }
+        int exitValue = process.exitValue();
+        Path out = directory.resolve("out.txt");
+        if (exitValue != 0 || !Files.exists(out)) {
+            System.err.printf("\tfailed with exit value %d, see %s%n", exitValue, log);
+            return null;
+        }
+        String result = new String(Files.readAllBytes(out), StandardCharsets.UTF_8);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The children run in their own directory, so relative entries such as {@code app.jar} are resolved here.
+     */
+    private static String absoluteClassPath() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(entry -> new File(entry).getAbsolutePath())
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    /**
+     * Takes the first throughput figure and the median latency, if any, of every result section. A section is a label line
+     * followed by tab indented lines.
+     */
+    private static void parse(String out, String optionsName, Map<String, Map<String, Metrics>> results) {
+        Metrics metrics = null;
+        boolean hasOpsPerSecond = false;
+        boolean hasP50 = false;
+        for (String line : out.split("\n")) {
+            Matcher throughput = THROUGHPUT.matcher(line);
+            Matcher p50 = P50.matcher(line);
+            if (!line.startsWith("\t")) {
+                String label = line.endsWith(":") ? line.substring(0, line.length() - 1) : line;
+                metrics = results.computeIfAbsent(label, key -> new LinkedHashMap<>())
+                        .computeIfAbsent(optionsName, key -> new Metrics());
+                hasOpsPerSecond = false;
+                hasP50 = false;
+            } else if (metrics != null && !hasOpsPerSecond && throughput.matches()) {
+                metrics.opsPerSecond += Long.parseLong(throughput.group(1));
+                metrics.opsPerSecondCount++;
+                hasOpsPerSecond = true;
+            } else if (metrics != null && !hasP50 && p50.matches()) {
+                metrics.p50 += Long.parseLong(p50.group(1));
+                metrics.p50Count++;
+                hasP50 = true;
+            }
+        }
+    }
+
+    private static String format(Map<String, Map<String, Metrics>> results, Iterable<String> optionsNames) {
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, Map<String, Metrics>> label : results.entrySet()) {
+            result.append(String.format("%s (forked):\n", label.getKey()));
+            for (String optionsName : optionsNames) {
+                Metrics metrics = label.getValue().get(optionsName);
+                String opsPerSecond = metrics == null || metrics.opsPerSecondCount == 0
+                        ? "n/a" : String.valueOf(metrics.opsPerSecond / metrics.opsPerSecondCount);
+                String p50 = metrics == null || metrics.p50Count == 0
+                        ? "n/a" : String.valueOf(metrics.p50 / metrics.p50Count);
+                result.append(String.format("\t%-24s %12s ops/s %10s ns p50\n", optionsName, opsPerSecond, p50));
+            }
+        }
+        return result.toString();
+    }
+}
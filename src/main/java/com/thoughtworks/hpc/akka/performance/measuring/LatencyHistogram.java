@@ -1,14 +1,31 @@
 package com.thoughtworks.hpc.akka.performance.measuring;
 
+import org.HdrHistogram.AbstractHistogram;
 import org.HdrHistogram.Histogram;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class LatencyHistogram extends Histogram {
+    private static final List<Double> PERCENTILES = Arrays.asList(0.0, 0.5, 0.9, 0.99, 0.999, 0.9999, 1.0);
+
     private long t = 0;
 
     public LatencyHistogram() {
         super(1000_000_000L, 2);
     }
 
+    /**
+     * The {@code p(x) = value ns/unit} lines that end every latency result.
+     */
+    public static String percentiles(AbstractHistogram histogram, String unit) {
+        StringBuilder result = new StringBuilder();
+        for (Double x : PERCENTILES) {
+            result.append(String.format("\tp(%1.5f) = %8d ns/%s\n", x, histogram.getValueAtPercentile(x * 100), unit));
+        }
+        return result.toString();
+    }
+
     public void record() {
         long t1 = System.nanoTime();
         if (t != 0) {
@@ -0,0 +1,132 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.Address;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
+import akka.cluster.typed.Cluster;
+import akka.cluster.typed.Join;
+import akka.cluster.typed.Leave;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A cluster of {@link ActorSystem}s living in this JVM and talking to each other over loopback.
+ */
+public class LocalCluster implements AutoCloseable {
+    private static final String SYSTEM_NAME = "akka-performance-measuring-cluster";
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    private final List<ActorSystem<Void>> nodes;
+
+    private LocalCluster(List<ActorSystem<Void>> nodes) {
+        this.nodes = nodes;
+    }
+
+    public static LocalCluster start(int nodeCount, Config overrides) throws InterruptedException, TimeoutException {
+        Config config = overrides
+                .withFallback(ConfigFactory.parseResources("cluster.conf"))
+                .withFallback(ConfigFactory.load());
+        List<ActorSystem<Void>> nodes = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(ActorSystem.create(Behaviors.empty(), SYSTEM_NAME, config));
+        }
+
+        LocalCluster cluster = new LocalCluster(nodes);
+        try {
+            Address seed = cluster.address(0);
+            for (ActorSystem<Void> node : nodes) {
+                Cluster.get(node).manager().tell(Join.create(seed));
+            }
+            cluster.awaitUp(nodeCount);
+        } catch (InterruptedException | TimeoutException | RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    public ActorSystem<Void> node(int i) {
+        return nodes.get(i);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public Address address(int i) {
+        return Cluster.get(nodes.get(i)).selfMember().address();
+    }
+
+    /**
+     * Gracefully removes the last node and waits until its actor system has terminated,
+     * i.e. until its shards have been handed off to the remaining nodes. A node that does not leave in time stays part of
+     * this cluster, so {@link #close} still terminates it.
+     */
+    public void leaveLast() throws InterruptedException, TimeoutException {
+        ActorSystem<Void> leaving = nodes.get(nodes.size() - 1);
+        Address address = Cluster.get(leaving).selfMember().address();
+        Cluster.get(leaving).manager().tell(Leave.create(address));
+        try {
+            leaving.getWhenTerminated().toCompletableFuture().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        nodes.remove(leaving);
+        awaitUp(nodes.size());
+    }
+
+    private void awaitUp(int expected) throws InterruptedException, TimeoutException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!allUp(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new TimeoutException("cluster of " + expected + " nodes did not form in time, members: "
+                        + Cluster.get(nodes.get(0)).state().getMembers());
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private boolean allUp(int expected) {
+        for (ActorSystem<Void> node : nodes) {
+            int up = 0;
+            int members = 0;
+            for (Member member : Cluster.get(node).state().getMembers()) {
+                // a node that has left can linger as Exiting in the survivors' view after it has terminated
+                if (member.status() == MemberStatus.exiting()) {
+                    continue;
+                }
+                members++;
+                if (member.status() == MemberStatus.up()) {
+                    up++;
+                }
+            }
+            if (members != expected || up != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        for (ActorSystem<Void> node : nodes) {
+            node.terminate();
+        }
+        for (ActorSystem<Void> node : nodes) {
+            try {
+                node.getWhenTerminated().toCompletableFuture().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                node.log().error(e.toString());
+            }
+        }
+        nodes.clear();
+    }
+}
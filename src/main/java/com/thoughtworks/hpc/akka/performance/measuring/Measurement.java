@@ -0,0 +1,153 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.Props;
+import akka.actor.typed.javadsl.ActorContext;
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+
+/**
+ * What a {@link Scenario} measures with: its parameters, actors, finish latches, producer threads released together
+ * when timing starts, a latency histogram and the figures reported by {@link ScenarioHarness}.
+ */
+public class Measurement {
+    private final ActorContext<?> context;
+    private final int n;
+    private final Parameters parameters;
+    private final List<ActorRef<?>> actors = new ArrayList<>();
+    private final List<CountDownLatch> finishLatches = new ArrayList<>();
+    private final List<Thread> producers = new ArrayList<>();
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+    private final StringBuilder details = new StringBuilder();
+    private ConcurrentHistogram latencyHistogram;
+    private long ops;
+    private String unit = "op";
+
+    Measurement(ActorContext<?> context, int n, Parameters parameters) {
+        this.context = context;
+        this.n = n;
+        this.parameters = parameters;
+        this.ops = n;
+    }
+
+    public int n() {
+        return n;
+    }
+
+    public <T> T get(Parameter<T> parameter) {
+        return parameters.get(parameter);
+    }
+
+    public ActorSystem<Void> system() {
+        return context.getSystem();
+    }
+
+    /**
+     * Spawns an actor that is stopped after {@link Scenario#teardown}.
+     */
+    public <T> ActorRef<T> spawn(Behavior<T> behavior) {
+        return spawn(behavior, Props.empty());
+    }
+
+    public <T> ActorRef<T> spawn(Behavior<T> behavior, Props props) {
+        ActorRef<T> actor = context.spawnAnonymous(behavior, props);
+        actors.add(actor);
+        return actor;
+    }
+
+    /**
+     * A latch the timing waits for after {@link Scenario#run} returns.
+     */
+    public CountDownLatch finishLatch(int count) {
+        CountDownLatch latch = new CountDownLatch(count);
+        finishLatches.add(latch);
+        return latch;
+    }
+
+    /**
+     * Starts {@code parallelism} threads that run {@code producer} with their index once timing starts.
+     */
+    public void producers(int parallelism, IntConsumer producer) {
+        for (int i = 0; i < parallelism; i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    context.getLog().error(e.toString());
+                    return;
+                }
+                producer.accept(index);
+            });
+            thread.start();
+            producers.add(thread);
+        }
+    }
+
+    /**
+     * A histogram whose percentiles are reported, in ns per {@link #unit}.
+     */
+    public ConcurrentHistogram latencyHistogram() {
+        if (latencyHistogram == null) {
+            latencyHistogram = new ConcurrentHistogram(1000_000_000L, 2);
+        }
+        return latencyHistogram;
+    }
+
+    /**
+     * The number of operations the throughput is computed from, {@code n} unless the scenario rounds it.
+     */
+    public void ops(long ops) {
+        this.ops = ops;
+    }
+
+    /**
+     * The name of one operation in the result, {@code op} unless set, e.g. {@code hop} for hops, hops/s and ns/hop.
+     */
+    public void unit(String unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Adds a line, e.g. a setting, to the result before the timing figures.
+     */
+    public void detail(String format, Object... args) {
+        details.append('\t').append(String.format(format, args)).append('\n');
+    }
+
+    void start() {
+        startLatch.countDown();
+    }
+
+    void awaitFinish() throws InterruptedException {
+        for (CountDownLatch latch : finishLatches) {
+            latch.await();
+        }
+    }
+
+    void close() throws InterruptedException {
+        // producers still waiting if setup or run failed
+        startLatch.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        for (ActorRef<?> actor : actors) {
+            context.stop(actor);
+        }
+    }
+
+    String report(String label, long spentTime) {
+        StringBuilder result = new StringBuilder(String.format("%s:\n%s\t%d %ss\n\t%d ns\n\t%d %ss/s\n",
+                label, details, ops, unit, spentTime, ops * 1000_000_000L / spentTime, unit));
+        if (latencyHistogram != null) {
+            result.append(LatencyHistogram.percentiles(latencyHistogram, unit));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A typed, positional {@link Scenario} parameter with a default value.
+ */
+public class Parameter<T> {
+    public static Parameter<Integer> ofInt(String name, int defaultValue) {
+        return new Parameter<>(name, name, defaultValue, Integer::parseInt);
+    }
+
+    public static Parameter<Long> ofLong(String name, long defaultValue) {
+        return new Parameter<>(name, name, defaultValue, Long::parseLong);
+    }
+
+    public static Parameter<Boolean> ofBoolean(String name, boolean defaultValue) {
+        return new Parameter<>(name, name + " on|off", defaultValue, value -> {
+            switch (value.toLowerCase()) {
+                case "on":
+                case "true":
+                    return true;
+                case "off":
+                case "false":
+                    return false;
+                default:
+                    throw new IllegalArgumentException(name + " must be on or off: " + value);
+            }
+        });
+    }
+
+    public static Parameter<String> ofChoice(String name, String defaultValue, String... choices) {
+        List<String> allowed = Arrays.asList(choices);
+        return new Parameter<>(name, String.join("|", allowed), defaultValue, value -> {
+            String choice = value.toLowerCase();
+            if (!allowed.contains(choice)) {
+                throw new IllegalArgumentException(name + " must be one of " + allowed + ": " + value);
+            }
+            return choice;
+        });
+    }
+
+    private final String name;
+    private final String usage;
+    private final T defaultValue;
+    private final Function<String, T> parser;
+
+    private Parameter(String name, String usage, T defaultValue, Function<String, T> parser) {
+        this.name = name;
+        this.usage = usage;
+        this.defaultValue = defaultValue;
+        this.parser = parser;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String usage() {
+        return "[" + usage + "]";
+    }
+
+    public T defaultValue() {
+        return defaultValue;
+    }
+
+    T parse(String value) {
+        return parser.apply(value);
+    }
+}
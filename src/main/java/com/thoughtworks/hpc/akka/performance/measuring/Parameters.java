@@ -0,0 +1,48 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The values of a {@link Scenario}'s parameters for one run.
+ */
+public class Parameters {
+    public static Parameters parse(Scenario scenario, List<String> args) {
+        List<Parameter<?>> parameters = scenario.parameters();
+        if (args.size() > parameters.size()) {
+            throw new IllegalArgumentException("too many arguments for " + usage(scenario));
+        }
+        Map<Parameter<?>, Object> values = new HashMap<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter<?> parameter = parameters.get(i);
+            try {
+                values.put(parameter, i < args.size() ? parameter.parse(args.get(i)) : parameter.defaultValue());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(parameter.name() + " is not a number: " + args.get(i));
+            }
+        }
+        return new Parameters(values);
+    }
+
+    public static String usage(Scenario scenario) {
+        return scenario.command() + " n " + scenario.parameters().stream()
+                .map(Parameter::usage)
+                .collect(Collectors.joining(" "));
+    }
+
+    private final Map<Parameter<?>, Object> values;
+
+    private Parameters(Map<Parameter<?>, Object> values) {
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Parameter<T> parameter) {
+        if (!values.containsKey(parameter)) {
+            throw new IllegalArgumentException("not a parameter of this scenario: " + parameter.name());
+        }
+        return (T) values.get(parameter);
+    }
+}
@@ -0,0 +1,48 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import akka.actor.typed.javadsl.ReceiveBuilder;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Registers one {@code onMessage} case per message type of the protocol, in tag order.
+ */
+public class ReceiveBuilderDispatchActor extends AbstractBehavior<WideProtocol.Message> {
+    public static Behavior<WideProtocol.Message> create(int width, CountDownLatch finishLatch, int n) {
+        return Behaviors.setup(context -> new ReceiveBuilderDispatchActor(context, width, finishLatch, n));
+    }
+
+    private final int width;
+    private final CountDownLatch finishLatch;
+    private int i;
+
+    private ReceiveBuilderDispatchActor(ActorContext<WideProtocol.Message> context, int width, CountDownLatch finishLatch, int n) {
+        super(context);
+        this.width = width;
+        this.finishLatch = finishLatch;
+        this.i = n;
+    }
+
+    @Override
+    public Receive<WideProtocol.Message> createReceive() {
+        ReceiveBuilder<WideProtocol.Message> builder = newReceiveBuilder();
+        for (int tag = 0; tag < width; tag++) {
+            builder.onMessage(WideProtocol.MESSAGE_CLASSES[tag], message -> onMessage());
+        }
+        return builder.build();
+    }
+
+    private Behavior<WideProtocol.Message> onMessage() {
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            return Behaviors.stopped();
+        }
+        return this;
+    }
+}
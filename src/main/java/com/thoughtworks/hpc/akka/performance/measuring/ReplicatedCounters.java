@@ -0,0 +1,131 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.cluster.ddata.GCounter;
+import akka.cluster.ddata.GCounterKey;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ORMap;
+import akka.cluster.ddata.ORMapKey;
+import akka.cluster.ddata.ReplicatedData;
+import akka.cluster.ddata.SelfUniqueAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lays out a number of counters onto distributed data: either one {@link GCounter} per counter,
+ * or all counters as the entries of a single {@link ORMap}.
+ */
+public abstract class ReplicatedCounters<D extends ReplicatedData> {
+    final int counterCount;
+
+    private ReplicatedCounters(int counterCount) {
+        this.counterCount = counterCount;
+    }
+
+    public static final List<String> TYPES = Arrays.asList("gcounter", "ormap");
+
+    public static ReplicatedCounters<?> create(String type, int counterCount) {
+        switch (type) {
+            case "gcounter":
+                return new GCounters(counterCount);
+            case "ormap":
+                return new ORMapCounters(counterCount);
+            default:
+                throw new IllegalArgumentException("unknown replicated data type: " + type);
+        }
+    }
+
+    abstract List<Key<D>> keys();
+
+    abstract Key<D> key(int counter);
+
+    abstract D empty();
+
+    abstract D increment(D data, int counter, SelfUniqueAddress node);
+
+    /**
+     * Sum of all counters stored under one of {@link #keys()}.
+     */
+    abstract long sum(D data);
+
+    private static class GCounters extends ReplicatedCounters<GCounter> {
+        private final List<Key<GCounter>> keys;
+
+        GCounters(int counterCount) {
+            super(counterCount);
+            keys = new ArrayList<>(counterCount);
+            for (int i = 0; i < counterCount; i++) {
+                keys.add(GCounterKey.create("counter-" + i));
+            }
+        }
+
+        @Override
+        List<Key<GCounter>> keys() {
+            return keys;
+        }
+
+        @Override
+        Key<GCounter> key(int counter) {
+            return keys.get(counter);
+        }
+
+        @Override
+        GCounter empty() {
+            return GCounter.empty();
+        }
+
+        @Override
+        GCounter increment(GCounter data, int counter, SelfUniqueAddress node) {
+            return data.increment(node, 1);
+        }
+
+        @Override
+        long sum(GCounter data) {
+            return data.getValue().longValue();
+        }
+    }
+
+    private static class ORMapCounters extends ReplicatedCounters<ORMap<String, GCounter>> {
+        private final Key<ORMap<String, GCounter>> key = ORMapKey.create("counters");
+        private final String[] entries;
+
+        ORMapCounters(int counterCount) {
+            super(counterCount);
+            entries = new String[counterCount];
+            for (int i = 0; i < counterCount; i++) {
+                entries[i] = "counter-" + i;
+            }
+        }
+
+        @Override
+        List<Key<ORMap<String, GCounter>>> keys() {
+            return Collections.singletonList(key);
+        }
+
+        @Override
+        Key<ORMap<String, GCounter>> key(int counter) {
+            return key;
+        }
+
+        @Override
+        ORMap<String, GCounter> empty() {
+            return ORMap.create();
+        }
+
+        @Override
+        ORMap<String, GCounter> increment(ORMap<String, GCounter> data, int counter, SelfUniqueAddress node) {
+            return data.update(node, entries[counter], GCounter.empty(), value -> value.increment(node, 1));
+        }
+
+        @Override
+        long sum(ORMap<String, GCounter> data) {
+            long sum = 0;
+            for (GCounter value : data.getEntries().values()) {
+                sum += value.getValue().longValue();
+            }
+            return sum;
+        }
+    }
+}
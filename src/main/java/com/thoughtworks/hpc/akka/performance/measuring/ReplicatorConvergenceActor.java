@@ -0,0 +1,91 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ReplicatedData;
+import akka.cluster.ddata.typed.javadsl.DistributedData;
+import akka.cluster.ddata.typed.javadsl.Replicator;
+import lombok.AllArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Subscribes to all counters on the local replica and keeps their sum from the {@code Changed} notifications until it
+ * reaches {@code expected}, i.e. until this node has converged. Notifications come at most every
+ * {@code notify-subscribers-interval}, which bounds the resolution of the measurement.
+ */
+public class ReplicatorConvergenceActor<D extends ReplicatedData> extends AbstractBehavior<ReplicatorConvergenceActor.Command> {
+    public interface Command {
+    }
+
+    public static class Start implements Command {
+    }
+
+    @AllArgsConstructor
+    private static class InternalSubscribeResponse implements Command {
+        final Replicator.SubscribeResponse<?> response;
+    }
+
+    public static <D extends ReplicatedData> Behavior<Command> create(ReplicatedCounters<D> counters, CountDownLatch finishLatch, long expected) {
+        return Behaviors.setup(context -> new ReplicatorConvergenceActor<>(context, counters, finishLatch, expected));
+    }
+
+    private final ReplicatedCounters<D> counters;
+    private final CountDownLatch finishLatch;
+    private final long expected;
+    private final ActorRef<Replicator.Command> replicator;
+    private final ActorRef<Replicator.SubscribeResponse<D>> subscribeResponseAdapter;
+    private final Map<Key<D>, Long> sums = new HashMap<>();
+    private long sum;
+
+    @SuppressWarnings("unchecked")
+    private ReplicatorConvergenceActor(ActorContext<Command> context, ReplicatedCounters<D> counters,
+                                       CountDownLatch finishLatch, long expected) {
+        super(context);
+        this.counters = counters;
+        this.finishLatch = finishLatch;
+        this.expected = expected;
+        this.replicator = DistributedData.get(context.getSystem()).replicator();
+        this.subscribeResponseAdapter = context.messageAdapter((Class<Replicator.SubscribeResponse<D>>) (Class<?>) Replicator.SubscribeResponse.class,
+                InternalSubscribeResponse::new);
+    }
+
+    @Override
+    public Receive<Command> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(Start.class, this::onStart)
+                .onMessage(InternalSubscribeResponse.class, this::onSubscribeResponse)
+                .build();
+    }
+
+    private Behavior<Command> onStart(Start start) {
+        // the replicator unsubscribes this actor when it stops
+        for (Key<D> key : counters.keys()) {
+            replicator.tell(new Replicator.Subscribe<>(key, subscribeResponseAdapter));
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Behavior<Command> onSubscribeResponse(InternalSubscribeResponse subscribeResponse) {
+        if (!(subscribeResponse.response instanceof Replicator.Changed)) {
+            return this;
+        }
+        Replicator.Changed<D> changed = (Replicator.Changed<D>) subscribeResponse.response;
+        long value = counters.sum(changed.dataValue());
+        Long previous = sums.put(changed.key(), value);
+        sum += value - (previous == null ? 0 : previous);
+        if (sum == expected) {
+            finishLatch.countDown();
+            return Behaviors.stopped();
+        }
+        return this;
+    }
+}
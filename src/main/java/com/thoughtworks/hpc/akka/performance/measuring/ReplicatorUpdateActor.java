@@ -0,0 +1,104 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import akka.cluster.ddata.ReplicatedData;
+import akka.cluster.ddata.SelfUniqueAddress;
+import akka.cluster.ddata.typed.javadsl.DistributedData;
+import akka.cluster.ddata.typed.javadsl.Replicator;
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Increments the counters round-robin through the local {@code Replicator}, keeping {@code window} updates in flight.
+ */
+public class ReplicatorUpdateActor<D extends ReplicatedData> extends AbstractBehavior<ReplicatorUpdateActor.Command> {
+    public interface Command {
+    }
+
+    public static class Start implements Command {
+    }
+
+    @AllArgsConstructor
+    private static class InternalUpdateResponse implements Command {
+        final Replicator.UpdateResponse<?> response;
+    }
+
+    public static <D extends ReplicatedData> Behavior<Command> create(ReplicatedCounters<D> counters, Replicator.WriteConsistency writeConsistency,
+                                                                      CountDownLatch finishLatch, int n, int window) {
+        return Behaviors.setup(context -> new ReplicatorUpdateActor<>(context, counters, writeConsistency, finishLatch, n, window));
+    }
+
+    private final ReplicatedCounters<D> counters;
+    private final Replicator.WriteConsistency writeConsistency;
+    private final CountDownLatch finishLatch;
+    private final int n;
+    private final int window;
+    private final ActorRef<Replicator.Command> replicator;
+    private final ActorRef<Replicator.UpdateResponse<D>> updateResponseAdapter;
+    private final SelfUniqueAddress node;
+    private int sent;
+    private int received;
+    private int failed;
+
+    @SuppressWarnings("unchecked")
+    private ReplicatorUpdateActor(ActorContext<Command> context, ReplicatedCounters<D> counters, Replicator.WriteConsistency writeConsistency,
+                                  CountDownLatch finishLatch, int n, int window) {
+        super(context);
+        this.counters = counters;
+        this.writeConsistency = writeConsistency;
+        this.finishLatch = finishLatch;
+        this.n = n;
+        this.window = window;
+        DistributedData distributedData = DistributedData.get(context.getSystem());
+        this.replicator = distributedData.replicator();
+        this.node = distributedData.selfUniqueAddress();
+        this.updateResponseAdapter = context.messageAdapter((Class<Replicator.UpdateResponse<D>>) (Class<?>) Replicator.UpdateResponse.class,
+                InternalUpdateResponse::new);
+    }
+
+    @Override
+    public Receive<Command> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(Start.class, this::onStart)
+                .onMessage(InternalUpdateResponse.class, this::onUpdateResponse)
+                .build();
+    }
+
+    private Behavior<Command> onStart(Start start) {
+        while (sent < n && sent < window) {
+            sendUpdate();
+        }
+        return this;
+    }
+
+    private Behavior<Command> onUpdateResponse(InternalUpdateResponse updateResponse) {
+        if (!(updateResponse.response instanceof Replicator.UpdateSuccess)) {
+            failed++;
+        }
+        received++;
+        if (received == n) {
+            if (failed > 0) {
+                getContext().getLog().warn("{} of {} updates did not succeed", failed, n);
+            }
+            finishLatch.countDown();
+            return Behaviors.stopped();
+        }
+        if (sent < n) {
+            sendUpdate();
+        }
+        return this;
+    }
+
+    private void sendUpdate() {
+        int counter = sent % counters.counterCount;
+        replicator.tell(new Replicator.Update<>(counters.key(counter), counters.empty(), writeConsistency, updateResponseAdapter,
+                data -> counters.increment(data, counter, node)));
+        sent++;
+    }
+}
@@ -0,0 +1,18 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * The {@code out.txt} every scenario appends its result to, read by {@code docker/statisticize_script.sh}.
+ */
+public class ResultFile {
+    private static final String NAME = "out.txt";
+
+    public static void append(String result) throws IOException {
+        try (BufferedWriter bufferWritter = new BufferedWriter(new FileWriter(NAME, true))) {
+            bufferWritter.write(result);
+        }
+    }
+}
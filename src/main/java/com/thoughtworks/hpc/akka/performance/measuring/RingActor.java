@@ -0,0 +1,69 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import lombok.AllArgsConstructor;
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.concurrent.CountDownLatch;
+
+public class RingActor extends AbstractBehavior<RingActor.Command> {
+    public interface Command {
+    }
+
+    @AllArgsConstructor
+    public static class Link implements Command {
+        ActorRef<Command> next;
+    }
+
+    @AllArgsConstructor
+    public static class Token implements Command {
+        int hops;
+        long sentAt;
+    }
+
+    public static Behavior<Command> create(CountDownLatch finishLatch, ConcurrentHistogram hopHistogram) {
+        return Behaviors.setup(context -> new RingActor(context, finishLatch, hopHistogram));
+    }
+
+    private final CountDownLatch finishLatch;
+    private final ConcurrentHistogram hopHistogram;
+    private ActorRef<Command> next;
+
+    private RingActor(ActorContext<Command> context, CountDownLatch finishLatch, ConcurrentHistogram hopHistogram) {
+        super(context);
+        this.finishLatch = finishLatch;
+        this.hopHistogram = hopHistogram;
+    }
+
+    @Override
+    public Receive<Command> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(Token.class, this::onToken)
+                .onMessage(Link.class, this::onLink)
+                .build();
+    }
+
+    private Behavior<Command> onLink(Link link) {
+        next = link.next;
+        return this;
+    }
+
+    private Behavior<Command> onToken(Token token) {
+        long now = System.nanoTime();
+        // a token injected from outside the ring has no sentAt, its first receipt is not a hop
+        if (token.sentAt != 0) {
+            hopHistogram.recordValue(now - token.sentAt);
+        }
+        if (token.hops == 0) {
+            finishLatch.countDown();
+        } else {
+            next.tell(new Token(token.hops - 1, now));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,69 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Passes tokens around a ring of actors; every hop is an op and its latency is recorded.
+ */
+public class RingScenario implements Scenario {
+    private static final Parameter<Integer> RING_SIZE = Parameter.ofInt("ring-size", 503);
+    private static final Parameter<Integer> TOKENS = Parameter.ofInt("tokens", 1);
+
+    private final List<ActorRef<RingActor.Command>> actors = new ArrayList<>();
+    private int hopsPerToken;
+
+    @Override
+    public String command() {
+        return "ring";
+    }
+
+    @Override
+    public String label() {
+        return "Thread ring";
+    }
+
+    @Override
+    public List<Parameter<?>> parameters() {
+        return Arrays.asList(RING_SIZE, TOKENS);
+    }
+
+    @Override
+    public void setup(Measurement measurement) {
+        int ringSize = measurement.get(RING_SIZE);
+        int tokenCount = measurement.get(TOKENS);
+        hopsPerToken = measurement.n() / tokenCount;
+        measurement.unit("hop");
+        measurement.ops((long) hopsPerToken * tokenCount);
+        measurement.detail("%d actors", ringSize);
+        measurement.detail("%d tokens", tokenCount);
+
+        CountDownLatch finishLatch = measurement.finishLatch(tokenCount);
+        actors.clear();
+        for (int i = 0; i < ringSize; i++) {
+            actors.add(measurement.spawn(RingActor.create(finishLatch, measurement.latencyHistogram())));
+        }
+        for (int i = 0; i < ringSize; i++) {
+            actors.get(i).tell(new RingActor.Link(actors.get((i + 1) % ringSize)));
+        }
+    }
+
+    @Override
+    public void run(Measurement measurement) {
+        int ringSize = actors.size();
+        int tokenCount = measurement.get(TOKENS);
+        for (int i = 0; i < tokenCount; i++) {
+            actors.get((int) ((long) i * ringSize / tokenCount)).tell(new RingActor.Token(hopsPerToken, 0));
+        }
+    }
+
+    @Override
+    public void teardown(Measurement measurement) {
+        // the scenario is a ServiceLoader singleton, it must not keep the stopped ring alive until the next run
+        actors.clear();
+    }
+}
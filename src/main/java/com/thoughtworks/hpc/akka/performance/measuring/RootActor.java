@@ -2,22 +2,45 @@ package com.thoughtworks.hpc.akka.performance.measuring;
 
 import akka.actor.typed.ActorRef;
 import akka.actor.typed.Behavior;
+import akka.actor.typed.DispatcherSelector;
+import akka.actor.typed.Props;
 import akka.actor.typed.javadsl.AbstractBehavior;
 import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Adapter;
+import akka.actor.typed.javadsl.AskPattern;
 import akka.actor.typed.javadsl.Behaviors;
 import akka.actor.typed.javadsl.Receive;
+import akka.cluster.ddata.DeltaReplicatedData;
+import akka.cluster.ddata.ReplicatedData;
+import akka.cluster.ddata.typed.javadsl.DistributedData;
+import akka.cluster.ddata.typed.javadsl.Replicator;
+import akka.cluster.sharding.typed.HashCodeMessageExtractor;
+import akka.cluster.sharding.typed.ShardingEnvelope;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import akka.cluster.sharding.typed.javadsl.Entity;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import org.slf4j.Logger;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 public class RootActor extends AbstractBehavior<RootActor.Command> {
@@ -33,6 +56,13 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
             this.n = n;
             finish = new CountDownLatch(1);
         }
+
+        /**
+         * Names the scenario in flight recordings.
+         */
+        String name() {
+            return getClass().getSimpleName();
+        }
     }
 
     public static class HandleEnqueueing extends Command {
@@ -93,6 +123,132 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
         }
     }
 
+    public static class HandleSharding extends Command {
+        private final int nodeCount;
+        private final int shardCount;
+        private final int entityCount;
+        private final boolean rememberEntities;
+
+        public HandleSharding(int n, int nodeCount, int shardCount, int entityCount, boolean rememberEntities) {
+            super(n);
+            this.nodeCount = nodeCount;
+            this.shardCount = shardCount;
+            this.entityCount = entityCount;
+            this.rememberEntities = rememberEntities;
+        }
+    }
+
+    public static class HandleDistributedData extends Command {
+        private final int nodeCount;
+        private final String writeConsistency;
+        private final int counterCount;
+        private final String dataType;
+
+        public HandleDistributedData(int n, int nodeCount, String writeConsistency, int counterCount, String dataType) {
+            super(n);
+            this.nodeCount = nodeCount;
+            this.writeConsistency = writeConsistency;
+            this.counterCount = counterCount;
+            this.dataType = dataType;
+        }
+    }
+
+    public static class HandleScenario extends Command {
+        private final Scenario scenario;
+        private final Parameters parameters;
+
+        public HandleScenario(int n, Scenario scenario, Parameters parameters) {
+            super(n);
+            this.scenario = scenario;
+            this.parameters = parameters;
+        }
+
+        @Override
+        String name() {
+            return scenario.command();
+        }
+    }
+
+    public static class HandleClassicInitiation extends Command {
+        public HandleClassicInitiation(int n) {
+            super(n);
+        }
+    }
+
+    public static class HandleClassicSingleProducerSending extends Command {
+        public HandleClassicSingleProducerSending(int n) {
+            super(n);
+        }
+    }
+
+    public static class HandleClassicMaxThroughput extends Command {
+        private final int parallelism;
+
+        public HandleClassicMaxThroughput(int n, int parallelism) {
+            super(n);
+            this.parallelism = parallelism;
+        }
+    }
+
+    public static class HandleClassicPingLatency extends Command {
+        public HandleClassicPingLatency(int n) {
+            super(n);
+        }
+    }
+
+    public static class HandleClassicPingThroughput extends Command {
+        private final int pairCount;
+
+        public HandleClassicPingThroughput(int n, int pairCount) {
+            super(n);
+            this.pairCount = pairCount;
+        }
+    }
+
+    public static class HandleDispatch extends Command {
+        private final String width;
+        private final String style;
+        private final String position;
+
+        public HandleDispatch(int n, String width, String style, String position) {
+            super(n);
+            this.width = width;
+            this.style = style;
+            this.position = position;
+        }
+    }
+
+    public static class HandleBlockingIsolation extends Command {
+        private final String mode;
+        private final int blockingShare;
+        private final String io;
+        private final int blockMillis;
+
+        public HandleBlockingIsolation(int n, String mode, int blockingShare, String io, int blockMillis) {
+            super(n);
+            this.mode = mode;
+            this.blockingShare = blockingShare;
+            this.io = io;
+            this.blockMillis = blockMillis;
+        }
+    }
+
+    private static final int SHARDING_IN_FLIGHT = 50_000;
+    private static final int SHARDING_MAX_PINGS = 100_000;
+    static final List<String> DDATA_WRITE_CONSISTENCIES = Arrays.asList("local", "majority", "all");
+    private static final int DDATA_IN_FLIGHT = 100;
+    private static final Duration DDATA_TIMEOUT = Duration.ofSeconds(5);
+    // convergence is observed through subscriptions, which are notified at this interval, 500 ms by default
+    private static final Config DDATA_CONFIG = ConfigFactory.parseString("akka.cluster.distributed-data.notify-subscribers-interval = 10ms");
+    static final List<String> DISPATCH_WIDTHS = Arrays.asList("1", "8", "32", "128");
+    static final List<String> DISPATCH_STYLES = Arrays.asList("receive-builder", "switch", "visitor");
+    static final List<String> DISPATCH_POSITIONS = Arrays.asList("early", "middle", "late", "mixed");
+    static final List<String> BLOCKING_MODES = Arrays.asList("default", "dedicated", "future");
+    static final List<String> BLOCKING_IOS = Arrays.asList("sleep", "file");
+    private static final DispatcherSelector BLOCKING_DISPATCHER = DispatcherSelector.fromConfig("blocking-io-dispatcher");
+    static final int BLOCKING_ACTORS = 10;
+    private static final int BLOCKING_FILE_SIZE = 1024 * 1024;
+
     private RootActor(ActorContext<Command> context) {
         super(context);
         logger = getContext().getLog();
@@ -113,6 +269,16 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
                 .onMessage(HandleMaxThroughput.class, this::onHandleMaxThroughput)
                 .onMessage(HandlePingLatency.class, this::onHandlePingLatency)
                 .onMessage(HandlePingThroughput.class, this::onHandlePingThroughput)
+                .onMessage(HandleSharding.class, this::onHandleSharding)
+                .onMessage(HandleDistributedData.class, this::onHandleDistributedData)
+                .onMessage(HandleScenario.class, this::onHandleScenario)
+                .onMessage(HandleDispatch.class, this::onHandleDispatch)
+                .onMessage(HandleBlockingIsolation.class, this::onHandleBlockingIsolation)
+                .onMessage(HandleClassicInitiation.class, this::onHandleClassicInitiation)
+                .onMessage(HandleClassicSingleProducerSending.class, this::onHandleClassicSingleProducerSending)
+                .onMessage(HandleClassicMaxThroughput.class, this::onHandleClassicMaxThroughput)
+                .onMessage(HandleClassicPingLatency.class, this::onHandleClassicPingLatency)
+                .onMessage(HandleClassicPingThroughput.class, this::onHandleClassicPingThroughput)
                 .build();
     }
 
@@ -129,6 +295,543 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
         return System.nanoTime() - start;
     }
 
+    private void writeResult(String result) {
+        System.out.println(result);
+        try {
+            ResultFile.append(result);
+        } catch (IOException e) {
+            logger.error(e.toString());
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            logger.error(e.toString());
+        }
+    }
+
+    private void tellEntities(ActorRef<ShardingEnvelope<ShardedCountActor.Command>> region, ShardedCountActor.Probe probe,
+                              int n, int entityCount, ShardedCountActor.Command message) {
+        long processedBefore = probe.processed.sum();
+        for (int i = 0; i < n; i++) {
+            if ((i & 1023) == 0) {
+                while (i - (probe.processed.sum() - processedBefore) > SHARDING_IN_FLIGHT) {
+                    Thread.yield();
+                }
+            }
+            region.tell(new ShardingEnvelope<>(String.valueOf(i % entityCount), message));
+        }
+    }
+
+    private Behavior<Command> onHandleSharding(HandleSharding handleSharding) {
+        try {
+            measureSharding(handleSharding);
+        } catch (Exception e) {
+            logger.error("sharding failed", e);
+        }
+        handleSharding.finish.countDown();
+        return this;
+    }
+
+    /**
+     * Wakes one extra entity in every shard, so that the coordinator has started and allocated all shards.
+     */
+    private long allocateShards(ActorRef<ShardingEnvelope<ShardedCountActor.Command>> region, ShardedCountActor.Probe probe, int shardCount) {
+        HashCodeMessageExtractor<ShardedCountActor.Command> extractor = new HashCodeMessageExtractor<>(shardCount);
+        Set<String> allocated = new HashSet<>();
+        probe.activated = new CountDownLatch(shardCount);
+        return timed((notUsed) -> {
+            for (int i = 0; allocated.size() < shardCount; i++) {
+                String entityId = "shard-allocation-" + i;
+                if (allocated.add(extractor.shardId(entityId))) {
+                    region.tell(new ShardingEnvelope<>(entityId, new ShardedCountActor.WakeUp()));
+                }
+            }
+            await(probe.activated);
+            return null;
+        });
+    }
+
+    private void measureSharding(HandleSharding handleSharding) throws InterruptedException, TimeoutException {
+        int entityCount = handleSharding.entityCount;
+        int n = roundToParallelism(handleSharding.n, entityCount);
+        Config config = ConfigFactory.parseString(String.format(
+                "akka.cluster.sharding.number-of-shards = %d\nakka.cluster.sharding.remember-entities = %s",
+                handleSharding.shardCount, handleSharding.rememberEntities ? "on" : "off"));
+        String settings = String.format("\t%d nodes\n\t%d shards\n\t%d entities\n\tremember-entities %s\n",
+                handleSharding.nodeCount, handleSharding.shardCount, entityCount, handleSharding.rememberEntities ? "on" : "off");
+
+        try (LocalCluster cluster = LocalCluster.start(handleSharding.nodeCount, config)) {
+            ShardedCountActor.Probe probe = new ShardedCountActor.Probe();
+            List<ActorRef<ShardingEnvelope<ShardedCountActor.Command>>> regions = new ArrayList<>(cluster.size());
+            for (int i = 0; i < cluster.size(); i++) {
+                regions.add(ClusterSharding.get(cluster.node(i)).init(
+                        Entity.of(ShardedCountActor.TYPE_KEY, entityContext -> ShardedCountActor.create(entityContext, probe))));
+            }
+            ActorRef<ShardingEnvelope<ShardedCountActor.Command>> region = regions.get(0);
+
+            long allocationTime = allocateShards(region, probe, handleSharding.shardCount);
+            probe.activated = new CountDownLatch(entityCount);
+            long activationTime = timed((notUsed) -> {
+                tellEntities(region, probe, entityCount, entityCount, new ShardedCountActor.WakeUp());
+                await(probe.activated);
+                return null;
+            });
+            writeResult(String.format("Sharding activation:\n%s\t%d ops\n\t%d ns\n\t%d ops/s\n\t%d ns shard allocation\n",
+                    settings, entityCount, activationTime, entityCount * 1000_000_000L / activationTime, allocationTime));
+
+            probe.expected = n / entityCount;
+            probe.received = new CountDownLatch(entityCount);
+            long throughputTime = timed((notUsed) -> {
+                tellEntities(region, probe, n, entityCount, new ShardedCountActor.EmptyMessage());
+                await(probe.received);
+                return null;
+            });
+            writeResult(String.format("Sharding throughput:\n%s\t%d ops\n\t%d ns\n\t%d ops/s\n",
+                    settings, n, throughputTime, n * 1000_000_000L / throughputTime));
+
+            int pingCount = Math.min(n, SHARDING_MAX_PINGS);
+            CountDownLatch pingLatch = new CountDownLatch(1);
+            LatencyHistogram latencyHistogram = new LatencyHistogram();
+            ActorRef<ShardingPingActor.Command> pingActor = cluster.node(0).systemActorOf(
+                    ShardingPingActor.create(region, entityCount, pingLatch, pingCount, latencyHistogram), "sharding-ping", Props.empty());
+            long pingTime = timed((notUsed) -> {
+                pingActor.tell(new ShardingPingActor.Start());
+                await(pingLatch);
+                return null;
+            });
+            StringBuilder latencyResult = new StringBuilder(String.format("Sharding routing latency:\n%s\t%d ops\n\t%d ns\n", settings, pingCount, pingTime));
+            latencyResult.append(LatencyHistogram.percentiles(latencyHistogram, "op"));
+            writeResult(latencyResult.toString());
+
+            if (cluster.size() > 1) {
+                // a hand-off that times out ends the run, there is no rebalance to report
+                long handOffStart = System.nanoTime();
+                cluster.leaveLast();
+                long handOffTime = System.nanoTime() - handOffStart;
+                probe.expected = 1;
+                probe.received = new CountDownLatch(entityCount);
+                long reactivationTime = timed((notUsed) -> {
+                    tellEntities(region, probe, entityCount, entityCount, new ShardedCountActor.EmptyMessage());
+                    await(probe.received);
+                    return null;
+                });
+                long rebalanceTime = handOffTime + reactivationTime;
+                writeResult(String.format("Sharding rebalance:\n%s\t%d ops\n\t%d ns\n\t%d ops/s\n\t%d ns hand-off\n",
+                        settings, entityCount, rebalanceTime, entityCount * 1000_000_000L / rebalanceTime, handOffTime));
+            }
+
+            probe.stopped = new CountDownLatch(entityCount);
+            long passivationTime = timed((notUsed) -> {
+                tellEntities(region, probe, entityCount, entityCount, new ShardedCountActor.Passivate());
+                await(probe.stopped);
+                return null;
+            });
+            writeResult(String.format("Sharding passivation:\n%s\t%d ops\n\t%d ns\n\t%d ops/s\n",
+                    settings, entityCount, passivationTime, entityCount * 1000_000_000L / passivationTime));
+        }
+    }
+
+    private Replicator.WriteConsistency writeConsistency(String name) {
+        switch (name) {
+            case "local":
+                return Replicator.writeLocal();
+            case "majority":
+                return new Replicator.WriteMajority(DDATA_TIMEOUT);
+            case "all":
+                return new Replicator.WriteAll(DDATA_TIMEOUT);
+            default:
+                throw new IllegalArgumentException("unknown write consistency: " + name);
+        }
+    }
+
+    private long usedHeap() {
+        System.gc();
+        System.gc();
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+
+    private Behavior<Command> onHandleDistributedData(HandleDistributedData handleDistributedData) {
+        try (LocalCluster cluster = LocalCluster.start(handleDistributedData.nodeCount, DDATA_CONFIG)) {
+            measureDistributedData(handleDistributedData, cluster,
+                    ReplicatedCounters.create(handleDistributedData.dataType, handleDistributedData.counterCount));
+        } catch (Exception e) {
+            logger.error("ddata failed", e);
+        }
+        handleDistributedData.finish.countDown();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D extends ReplicatedData> void measureDistributedData(HandleDistributedData handleDistributedData, LocalCluster cluster,
+                                                                   ReplicatedCounters<D> counters)
+            throws InterruptedException, TimeoutException, ExecutionException {
+        int n = handleDistributedData.n;
+        String settings = String.format("\t%d nodes\n\twrite %s\n\t%d counters\n\t%s\n", cluster.size(),
+                handleDistributedData.writeConsistency, counters.counterCount, handleDistributedData.dataType);
+        Replicator.WriteConsistency writeConsistency = writeConsistency(handleDistributedData.writeConsistency);
+        // the replicator is started lazily, writes to a node without one would time out
+        for (int i = 0; i < cluster.size(); i++) {
+            DistributedData.get(cluster.node(i));
+        }
+        long heapBefore = usedHeap();
+
+        CountDownLatch updateLatch = new CountDownLatch(1);
+        ActorRef<ReplicatorUpdateActor.Command> updateActor = cluster.node(0).systemActorOf(
+                ReplicatorUpdateActor.create(counters, writeConsistency, updateLatch, n, DDATA_IN_FLIGHT), "ddata-update", Props.empty());
+        long updateTime = timed((notUsed) -> {
+            updateActor.tell(new ReplicatorUpdateActor.Start());
+            await(updateLatch);
+            return null;
+        });
+        writeResult(String.format("Distributed data updates:\n%s\t%d ops\n\t%d ns\n\t%d ops/s\n",
+                settings, n, updateTime, n * 1000_000_000L / updateTime));
+
+        CountDownLatch convergenceLatch = new CountDownLatch(cluster.size() - 1);
+        List<ActorRef<ReplicatorConvergenceActor.Command>> convergenceActors = new ArrayList<>(cluster.size() - 1);
+        for (int i = 1; i < cluster.size(); i++) {
+            convergenceActors.add(cluster.node(i).systemActorOf(
+                    ReplicatorConvergenceActor.create(counters, convergenceLatch, n), "ddata-convergence", Props.empty()));
+        }
+        long convergenceTime = timed((notUsed) -> {
+            for (ActorRef<ReplicatorConvergenceActor.Command> convergenceActor : convergenceActors) {
+                convergenceActor.tell(new ReplicatorConvergenceActor.Start());
+            }
+            await(convergenceLatch);
+            return null;
+        });
+        writeResult(String.format("Distributed data convergence:\n%s\t%d ops\n\t%d ns\n", settings, n, convergenceTime));
+
+        long heapUsed = Math.max(0, usedHeap() - heapBefore);
+        ActorRef<Replicator.Command> replicator = DistributedData.get(cluster.node(0)).replicator();
+        Replicator.GetResponse<D> response = AskPattern.<Replicator.Command, Replicator.GetResponse<D>>ask(replicator,
+                replyTo -> new Replicator.Get<>(counters.key(0), Replicator.readLocal(), replyTo), DDATA_TIMEOUT, cluster.node(0).scheduler())
+                .toCompletableFuture().get();
+        if (!(response instanceof Replicator.GetSuccess)) {
+            throw new IllegalStateException("reading " + counters.key(0) + " failed: " + response);
+        }
+        D data = ((Replicator.GetSuccess<D>) response).dataValue();
+        D incremented = counters.increment((D) ((DeltaReplicatedData) data).resetDelta(), 0,
+                DistributedData.get(cluster.node(0)).selfUniqueAddress());
+        Serialization serialization = SerializationExtension.get(Adapter.toClassic(cluster.node(0)));
+        int deltaSize = serialization.serialize(((DeltaReplicatedData) incremented).delta().get()).get().length;
+        int stateSize = serialization.serialize(incremented).get().length;
+        writeResult(String.format("Distributed data size:\n%s\t%d bytes delta/update\n\t%d bytes state/key\n\t%d bytes heap\n\t%d bytes heap/counter/replica\n",
+                settings, deltaSize, stateSize, heapUsed, heapUsed / ((long) counters.counterCount * cluster.size())));
+    }
+
+    private Behavior<Command> onHandleScenario(HandleScenario handleScenario) {
+        try {
+            writeResult(ScenarioHarness.measure(getContext(), handleScenario.scenario, handleScenario.n, handleScenario.parameters));
+        } catch (Exception e) {
+            logger.error("{} failed", handleScenario.scenario.command(), e);
+        }
+        handleScenario.finish.countDown();
+        return this;
+    }
+
+    private List<String> allOrOne(String value, List<String> all) {
+        return value.equals("all") ? all : Collections.singletonList(value);
+    }
+
+    private Behavior<Command> onHandleDispatch(HandleDispatch handleDispatch) {
+        for (String width : allOrOne(handleDispatch.width, DISPATCH_WIDTHS)) {
+            for (String style : allOrOne(handleDispatch.style, DISPATCH_STYLES)) {
+                for (String position : allOrOne(handleDispatch.position, DISPATCH_POSITIONS)) {
+                    measureDispatch(handleDispatch.n, Integer.parseInt(width), style, position);
+                }
+            }
+        }
+        handleDispatch.finish.countDown();
+        return this;
+    }
+
+    private void measureDispatch(int n, int width, String style, String position) {
+        // the first pass warms up the JIT for this combination and is discarded
+        runDispatch(n, width, style, position);
+        long spentTime = runDispatch(n, width, style, position);
+        writeResult(String.format("Dispatch (%s, %d types, %s):\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n",
+                style, width, position, n, spentTime, n * 1000_000_000L / spentTime, (double) spentTime / n));
+    }
+
+    private long runDispatch(int n, int width, String style, String position) {
+        CountDownLatch finishLatch = new CountDownLatch(1);
+        Behavior<WideProtocol.Message> behavior;
+        switch (style) {
+            case "receive-builder":
+                behavior = ReceiveBuilderDispatchActor.create(width, finishLatch, n);
+                break;
+            case "switch":
+                behavior = SwitchDispatchActor.create(width, finishLatch, n);
+                break;
+            case "visitor":
+                behavior = VisitorDispatchActor.create(finishLatch, n);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown dispatch style: " + style);
+        }
+
+        WideProtocol.Message[] messages;
+        switch (position) {
+            case "early":
+                messages = new WideProtocol.Message[]{WideProtocol.create(0)};
+                break;
+            case "middle":
+                messages = new WideProtocol.Message[]{WideProtocol.create(width / 2)};
+                break;
+            case "late":
+                messages = new WideProtocol.Message[]{WideProtocol.create(width - 1)};
+                break;
+            case "mixed":
+                messages = new WideProtocol.Message[width];
+                for (int i = 0; i < width; i++) {
+                    messages[i] = WideProtocol.create(i);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unknown message position: " + position);
+        }
+
+        ActorRef<WideProtocol.Message> actor = getContext().spawnAnonymous(behavior);
+        return timed((notUsed) -> {
+            for (int i = 0; i < n; i++) {
+                actor.tell(messages[i % messages.length]);
+            }
+            await(finishLatch);
+            return null;
+        });
+    }
+
+    private Behavior<Command> onHandleBlockingIsolation(HandleBlockingIsolation handleBlockingIsolation) throws IOException {
+        Path file = null;
+        if (handleBlockingIsolation.io.equals("file")) {
+            file = Files.createTempFile("akka-performance-measuring", ".bin");
+            byte[] content = new byte[BLOCKING_FILE_SIZE];
+            ThreadLocalRandom.current().nextBytes(content);
+            Files.write(file, content);
+        } else if (!handleBlockingIsolation.io.equals("sleep")) {
+            throw new IllegalArgumentException("unknown blocking io: " + handleBlockingIsolation.io);
+        }
+        BlockingWorkActor.BlockingIo blockingIo = new BlockingWorkActor.BlockingIo(handleBlockingIsolation.blockMillis, file);
+
+        try {
+            for (String mode : allOrOne(handleBlockingIsolation.mode, BLOCKING_MODES)) {
+                measureBlockingIsolation(handleBlockingIsolation, mode, blockingIo);
+            }
+        } finally {
+            if (file != null) {
+                Files.delete(file);
+            }
+        }
+        handleBlockingIsolation.finish.countDown();
+        return this;
+    }
+
+    private void measureBlockingIsolation(HandleBlockingIsolation handleBlockingIsolation, String mode, BlockingWorkActor.BlockingIo blockingIo) {
+        int blockingCount = Math.min(BLOCKING_ACTORS - 1, BLOCKING_ACTORS * handleBlockingIsolation.blockingShare / 100);
+        int parallelism = BLOCKING_ACTORS - blockingCount;
+        int n = roundToParallelism(handleBlockingIsolation.n, parallelism);
+
+        List<ActorRef<BlockingWorkActor.Command>> blockingActors = new ArrayList<>(blockingCount);
+        for (int i = 0; i < blockingCount; i++) {
+            switch (mode) {
+                case "default":
+                    blockingActors.add(getContext().spawnAnonymous(BlockingWorkActor.create(blockingIo, null)));
+                    break;
+                case "dedicated":
+                    blockingActors.add(getContext().spawnAnonymous(BlockingWorkActor.create(blockingIo, null), BLOCKING_DISPATCHER));
+                    break;
+                case "future":
+                    Executor executor = getContext().getSystem().dispatchers().lookup(BLOCKING_DISPATCHER);
+                    blockingActors.add(getContext().spawnAnonymous(BlockingWorkActor.create(blockingIo, executor)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown blocking mode: " + mode);
+            }
+        }
+        for (ActorRef<BlockingWorkActor.Command> blockingActor : blockingActors) {
+            blockingActor.tell(new BlockingWorkActor.Work());
+        }
+
+        CountDownLatch finishLatch = new CountDownLatch(parallelism);
+        CyclicBarrier barrier = new CyclicBarrier(parallelism + 1);
+        CountActor.EmptyMessage emptyMessage = new CountActor.EmptyMessage();
+        int times = n / parallelism;
+        for (int i = 0; i < parallelism; i++) {
+            ActorRef<CountActor.Command> actor = getContext().spawnAnonymous(CountActor.create(finishLatch, times));
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    logger.error(e.toString());
+                }
+                for (int j = 0; j < times; j++) {
+                    actor.tell(emptyMessage);
+                }
+            });
+            thread.start();
+        }
+
+        long spentTime = timed((notUsed) -> {
+            try {
+                barrier.await();
+                finishLatch.await();
+            } catch (Exception e) {
+                logger.error(e.toString());
+            }
+            return null;
+        });
+
+        // at least one ping each way, n / 10 rounds down to 0 for small n
+        int pingCount = Math.max(2, roundToEven(n / 10));
+        CountDownLatch pingLatch = new CountDownLatch(2);
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        ActorRef<PingLatencyActor.Command> actor1 = getContext().spawnAnonymous(PingLatencyActor.create(pingLatch, pingCount / 2, latencyHistogram));
+        ActorRef<PingLatencyActor.Command> actor2 = getContext().spawnAnonymous(PingLatencyActor.create(pingLatch, pingCount / 2, latencyHistogram));
+        actor1.tell(new PingLatencyActor.PingLatencyMessage(actor2));
+        await(pingLatch);
+
+        // tear down, the actors stop after their current work instead of dropping their pending Work to dead letters
+        for (ActorRef<BlockingWorkActor.Command> blockingActor : blockingActors) {
+            blockingActor.tell(new BlockingWorkActor.Stop());
+        }
+
+        StringBuilder result = new StringBuilder(String.format(
+                "Blocking isolation (%s, %d of %d actors blocking on %s):\n\t%d ops\n\t%d ns\n\t%d ops/s\n",
+                mode, blockingCount, BLOCKING_ACTORS, handleBlockingIsolation.io, n, spentTime, n * 1000_000_000L / spentTime));
+        result.append(LatencyHistogram.percentiles(latencyHistogram, "op"));
+        writeResult(result.toString());
+    }
+
+    private Behavior<Command> onHandleClassicInitiation(HandleClassicInitiation handleClassicInitiation) {
+        List<akka.actor.ActorRef> actors = new ArrayList<>(handleClassicInitiation.n);
+
+        long spentTime = timed((notUsed) -> {
+            for (int i = 0; i < handleClassicInitiation.n; i++) {
+                actors.add(Adapter.actorOf(getContext(), ClassicMinimalActor.props()));
+            }
+            return null;
+        });
+
+        // tear down
+        for (akka.actor.ActorRef actor : actors) {
+            Adapter.stop(getContext(), actor);
+        }
+
+        writeResult(String.format("Classic initiation:\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n",
+                handleClassicInitiation.n, spentTime, handleClassicInitiation.n * 1000_000_000L / spentTime, (double) spentTime / handleClassicInitiation.n));
+        handleClassicInitiation.finish.countDown();
+        return this;
+    }
+
+    private Behavior<Command> onHandleClassicSingleProducerSending(HandleClassicSingleProducerSending handleClassicSingleProducerSending) {
+        int n = handleClassicSingleProducerSending.n;
+        CountDownLatch finishLatch = new CountDownLatch(1);
+        akka.actor.ActorRef actor = Adapter.actorOf(getContext(), ClassicCountActor.props(finishLatch, n));
+
+        long spentTime = timed((notUsed) -> {
+            ClassicCountActor.EmptyMessage emptyMessage = new ClassicCountActor.EmptyMessage();
+            for (int i = 0; i < n; i++) {
+                actor.tell(emptyMessage, akka.actor.ActorRef.noSender());
+            }
+            await(finishLatch);
+            return null;
+        });
+
+        writeResult(String.format("Classic single-producer sending:\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n",
+                n, spentTime, n * 1000_000_000L / spentTime, (double) spentTime / n));
+        handleClassicSingleProducerSending.finish.countDown();
+        return this;
+    }
+
+    private Behavior<Command> onHandleClassicMaxThroughput(HandleClassicMaxThroughput handleClassicMaxThroughput) {
+        int parallelism = handleClassicMaxThroughput.parallelism;
+        int n = roundToParallelism(handleClassicMaxThroughput.n, parallelism);
+        CountDownLatch finishLatch = new CountDownLatch(parallelism);
+
+        CyclicBarrier barrier = new CyclicBarrier(parallelism + 1);
+        ClassicCountActor.EmptyMessage emptyMessage = new ClassicCountActor.EmptyMessage();
+        int times = n / parallelism;
+        for (int i = 0; i < parallelism; i++) {
+            akka.actor.ActorRef actor = Adapter.actorOf(getContext(), ClassicCountActor.props(finishLatch, times));
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    logger.error(e.toString());
+                }
+                for (int j = 0; j < times; j++) {
+                    actor.tell(emptyMessage, akka.actor.ActorRef.noSender());
+                }
+            });
+            thread.start();
+        }
+
+        long spentTime = timed((notUsed) -> {
+            try {
+                barrier.await();
+                finishLatch.await();
+            } catch (Exception e) {
+                logger.error(e.toString());
+            }
+            return null;
+        });
+
+        writeResult(String.format("Classic max throughput:\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n",
+                n, spentTime, n * 1000_000_000L / spentTime, (double) spentTime / n));
+        handleClassicMaxThroughput.finish.countDown();
+        return this;
+    }
+
+    private Behavior<Command> onHandleClassicPingLatency(HandleClassicPingLatency handleClassicPingLatency) {
+        int n = roundToEven(handleClassicPingLatency.n);
+        CountDownLatch finishLatch = new CountDownLatch(2);
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        akka.actor.ActorRef actor1 = Adapter.actorOf(getContext(), ClassicPingLatencyActor.props(finishLatch, n / 2, latencyHistogram));
+        akka.actor.ActorRef actor2 = Adapter.actorOf(getContext(), ClassicPingLatencyActor.props(finishLatch, n / 2, latencyHistogram));
+
+        long spentTime = timed((notUsed) -> {
+            actor1.tell(new ClassicPingLatencyActor.PingLatencyMessage(actor2), akka.actor.ActorRef.noSender());
+            await(finishLatch);
+            return null;
+        });
+
+        StringBuilder result = new StringBuilder(String.format("Classic ping latency:\n\t%d ops\n\t%d ns\n\t%.1f ns/op\n",
+                n, spentTime, (double) spentTime / n));
+        result.append(LatencyHistogram.percentiles(latencyHistogram, "op"));
+        writeResult(result.toString());
+        handleClassicPingLatency.finish.countDown();
+        return this;
+    }
+
+    private Behavior<Command> onHandleClassicPingThroughput(HandleClassicPingThroughput handleClassicPingThroughput) {
+        int p = roundToEven(handleClassicPingThroughput.pairCount);
+        int n = roundToParallelism(handleClassicPingThroughput.n, p);
+        CountDownLatch finishLatch = new CountDownLatch(p * 2);
+        List<akka.actor.ActorRef> actors = new ArrayList<>(p * 2);
+
+        for (int i = 0; i < p; i++) {
+            actors.add(Adapter.actorOf(getContext(), ClassicPingThroughputActor.props(finishLatch, n / p / 2)));
+            actors.add(Adapter.actorOf(getContext(), ClassicPingThroughputActor.props(finishLatch, n / p / 2)));
+        }
+
+        long spentTime = timed((notUsed) -> {
+            for (int i = 0; i < actors.size(); i += 2) {
+                actors.get(i).tell(new ClassicPingThroughputActor.PingThroughputMessage(actors.get(i + 1)), akka.actor.ActorRef.noSender());
+            }
+            await(finishLatch);
+            return null;
+        });
+
+        writeResult(String.format("Classic ping throughput:\n\t%d ops\n\t%d pairs\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n",
+                n, p, spentTime, n * 1000_000_000L / spentTime, (double) spentTime / n));
+        handleClassicPingThroughput.finish.countDown();
+        return this;
+    }
+
     private Behavior<Command> onHandlePingThroughput(HandlePingThroughput handlePingThroughput) {
         int p = roundToEven(handlePingThroughput.pairCount);
         int n = roundToParallelism(handlePingThroughput.n, p);
@@ -159,22 +862,9 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        System.out.printf("\t%d pairs\n", p);
 //        System.out.printf("\t%d ns\n", spentTime);
 //        System.out.printf("\t%d ops/s\n", n * 1000_000_000L / spentTime);
-        String result = String.format("Ping throughput:\n\t%d ops\n\t%d pairs\n\t%d ns\n\t%d ops/s\n", n, p, spentTime, n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        String result = String.format("Ping throughput:\n\t%d ops\n\t%d pairs\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n", n, p, spentTime, n * 1000_000_000L / spentTime, (double) spentTime / n);
+        writeResult(result);
         handlePingThroughput.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -196,11 +886,8 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
             return null;
         });
 
-        List<Double> percentileList = Arrays.asList(0.0, 0.5, 0.9, 0.99, 0.999, 0.9999, 1.0);
-        StringBuilder result = new StringBuilder(String.format("Ping latency:\n\t%d ops\n\t%d ns\n", n, spentTime));
-        for (Double x: percentileList){
-            result.append(String.format("\tp(%1.5f) = %8d ns/op\n", x, latencyHistogram.getValueAtPercentile(x * 100)));
-        }
+        StringBuilder result = new StringBuilder(String.format("Ping latency:\n\t%d ops\n\t%d ns\n\t%.1f ns/op\n", n, spentTime, (double) spentTime / n));
+        result.append(LatencyHistogram.percentiles(latencyHistogram, "op"));
 //        System.out.println("Ping latency:");
 //        System.out.printf("\t%d ops\n", n);
 //        System.out.printf("\t%d ns\n", spentTime);
@@ -208,21 +895,8 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //                x -> System.out.printf("\tp(%1.5f) = %8d ns/op\n", x, latencyHistogram.getValueAtPercentile(x * 100))
 //        );
 
-        System.out.println(result);
-
+        writeResult(result.toString());
         handlePingLatency.finish.countDown();
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result.toString());
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -266,22 +940,9 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        System.out.printf("\t%d ns\n", spentTime);
 //        System.out.printf("\t%d ops/s\n", n * 1000_000_000L / spentTime);
 //        handleMaxThroughput.finish.countDown();
-        String result = String.format("Max throughput:\n\t%d ops\n\t%d ns\n\t%d ops/s\n", n, spentTime, n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        String result = String.format("Max throughput:\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n", n, spentTime, n * 1000_000_000L / spentTime, (double) spentTime / n);
+        writeResult(result);
         handleMaxThroughput.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -330,21 +991,8 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        handleMultiProducerSending.finish.countDown();
 
         String result = String.format("Multi-producer sending:\n\t%d ops\n\t%d ns\n\t%d ops/s\n", n, spentTime, n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        writeResult(result);
         handleMultiProducerSending.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -371,22 +1019,9 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        System.out.printf("\t%d ops/s\n", handleSingleProducerSending.n * 1000_000_000L / spentTime);
 //        handleSingleProducerSending.finish.countDown();
 
-        String result = String.format("Single-producer sending:\n\t%d ops\n\t%d ns\n\t%d ops/s\n", handleSingleProducerSending.n, spentTime, handleSingleProducerSending.n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        String result = String.format("Single-producer sending:\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n", handleSingleProducerSending.n, spentTime, handleSingleProducerSending.n * 1000_000_000L / spentTime, (double) spentTime / handleSingleProducerSending.n);
+        writeResult(result);
         handleSingleProducerSending.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -412,22 +1047,9 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        System.out.printf("\t%d ops/s\n", handleInitiation.n * 1000_000_000L / spentTime);
 //        handleInitiation.finish.countDown();
 
-        String result = String.format("Initiation:\n\t%d ops\n\t%d ns\n\t%d ops/s\n", handleInitiation.n, spentTime, handleInitiation.n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        String result = String.format("Initiation:\n\t%d ops\n\t%d ns\n\t%d ops/s\n\t%.1f ns/op\n", handleInitiation.n, spentTime, handleInitiation.n * 1000_000_000L / spentTime, (double) spentTime / handleInitiation.n);
+        writeResult(result);
         handleInitiation.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -458,21 +1080,8 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        handleDequeueing.finish.countDown();
 
         String result = String.format("Dequeueing:\n\t%d ops\n\t%d ns\n\t%d ops/s\n", handleDequeueing.n, spentTime, handleDequeueing.n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        writeResult(result);
         handleDequeueing.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
@@ -499,21 +1108,8 @@ public class RootActor extends AbstractBehavior<RootActor.Command> {
 //        handleEnqueueing.finish.countDown();
 
         String result = String.format("Enqueueing:\n\t%d ops\n\t%d ns\n\t%d ops/s\n", handleEnqueueing.n, spentTime, handleEnqueueing.n * 1000_000_000L / spentTime);
-        System.out.println(result);
+        writeResult(result);
         handleEnqueueing.finish.countDown();
-
-        try {
-            File file =new File("out.txt");
-            if(!file.exists()){
-                file.createNewFile();
-            }
-            FileWriter fileWritter = new FileWriter(file.getName(),true);
-            BufferedWriter bufferWritter = new BufferedWriter(fileWritter);
-            bufferWritter.write(result);
-            bufferWritter.close();
-        } catch (IOException e) {
-            logger.error(e.toString());
-        }
         return this;
     }
 
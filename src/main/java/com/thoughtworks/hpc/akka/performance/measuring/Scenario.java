@@ -0,0 +1,42 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import java.util.List;
+
+/**
+ * A benchmark run by {@link ScenarioHarness}, discovered with {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/com.thoughtworks.hpc.akka.performance.measuring.Scenario}, so it can live in a separate jar
+ * on the class path.
+ * <p>
+ * The harness parses {@code <command> n [parameters...]}, calls {@link #setup}, times {@link #run} until every finish
+ * latch of the {@link Measurement} has counted down, then calls {@link #teardown} and stops all actors spawned through
+ * the measurement.
+ */
+public interface Scenario {
+    /**
+     * The command that runs this scenario, e.g. {@code ring}.
+     */
+    String command();
+
+    /**
+     * The label of the result section, e.g. {@code Thread ring}.
+     */
+    String label();
+
+    /**
+     * The parameters after {@code n}, bound by position; omitted ones take their default.
+     */
+    List<Parameter<?>> parameters();
+
+    /**
+     * Spawns actors, creates latches and starts producers. Not timed.
+     */
+    void setup(Measurement measurement) throws Exception;
+
+    /**
+     * Starts the workload. Timed together with waiting for the finish latches.
+     */
+    void run(Measurement measurement) throws Exception;
+
+    default void teardown(Measurement measurement) throws Exception {
+    }
+}
@@ -0,0 +1,43 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.javadsl.ActorContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Finds the {@link Scenario}s on the class path and runs them with the same timing, teardown and reporting.
+ */
+public class ScenarioHarness {
+    public static Map<String, Scenario> scenarios() {
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        for (Scenario scenario : ServiceLoader.load(Scenario.class)) {
+            Scenario previous = scenarios.put(scenario.command(), scenario);
+            if (previous != null) {
+                throw new IllegalStateException(String.format("%s and %s both provide the command %s",
+                        previous.getClass().getName(), scenario.getClass().getName(), scenario.command()));
+            }
+        }
+        return scenarios;
+    }
+
+    public static String measure(ActorContext<?> context, Scenario scenario, int n, Parameters parameters) throws Exception {
+        Measurement measurement = new Measurement(context, n, parameters);
+        try {
+            scenario.setup(measurement);
+            long start = System.nanoTime();
+            measurement.start();
+            scenario.run(measurement);
+            measurement.awaitFinish();
+            long spentTime = System.nanoTime() - start;
+            return measurement.report(scenario.label(), spentTime);
+        } finally {
+            try {
+                scenario.teardown(measurement);
+            } finally {
+                measurement.close();
+            }
+        }
+    }
+}
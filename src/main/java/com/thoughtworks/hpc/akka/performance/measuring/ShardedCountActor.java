@@ -0,0 +1,111 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.PostStop;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import akka.cluster.sharding.typed.javadsl.EntityContext;
+import akka.cluster.sharding.typed.javadsl.EntityTypeKey;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ShardedCountActor extends AbstractBehavior<ShardedCountActor.Command> {
+    public static final EntityTypeKey<Command> TYPE_KEY = EntityTypeKey.create(Command.class, "ShardedCountActor");
+
+    public interface Command extends CborSerializable {
+    }
+
+    public static class WakeUp implements Command {
+    }
+
+    public static class EmptyMessage implements Command {
+    }
+
+    public static class Passivate implements Command {
+    }
+
+    public static class Ping implements Command {
+        public final ActorRef<ShardingPingActor.Command> replyTo;
+
+        @JsonCreator
+        public Ping(@JsonProperty("replyTo") ActorRef<ShardingPingActor.Command> replyTo) {
+            this.replyTo = replyTo;
+        }
+    }
+
+    /**
+     * Latches shared by all entities of all nodes; the nodes live in one JVM so this never goes over the wire.
+     * The benchmark swaps the latches between phases and uses {@code processed} to bound the messages in flight.
+     */
+    public static class Probe {
+        final LongAdder processed = new LongAdder();
+        volatile CountDownLatch activated = new CountDownLatch(0);
+        volatile CountDownLatch received = new CountDownLatch(0);
+        volatile CountDownLatch stopped = new CountDownLatch(0);
+        volatile int expected;
+    }
+
+    public static Behavior<Command> create(EntityContext<Command> entityContext, Probe probe) {
+        return Behaviors.setup(context -> new ShardedCountActor(context, entityContext.getShard(), probe));
+    }
+
+    private final ActorRef<ClusterSharding.ShardCommand> shard;
+    private final Probe probe;
+    private int i;
+
+    private ShardedCountActor(ActorContext<Command> context, ActorRef<ClusterSharding.ShardCommand> shard, Probe probe) {
+        super(context);
+        this.shard = shard;
+        this.probe = probe;
+        probe.activated.countDown();
+    }
+
+    @Override
+    public Receive<Command> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(EmptyMessage.class, this::onEmptyMessage)
+                .onMessage(WakeUp.class, this::onWakeUp)
+                .onMessage(Ping.class, this::onPing)
+                .onMessage(Passivate.class, this::onPassivate)
+                .onSignal(PostStop.class, signal -> onPostStop())
+                .build();
+    }
+
+    private Behavior<Command> onWakeUp(WakeUp wakeUp) {
+        probe.processed.increment();
+        return this;
+    }
+
+    private Behavior<Command> onEmptyMessage(EmptyMessage emptyMessage) {
+        probe.processed.increment();
+        i++;
+        if (i == probe.expected) {
+            i = 0;
+            probe.received.countDown();
+        }
+        return this;
+    }
+
+    private Behavior<Command> onPing(Ping ping) {
+        ping.replyTo.tell(new ShardingPingActor.Pong());
+        return this;
+    }
+
+    private Behavior<Command> onPassivate(Passivate passivate) {
+        probe.processed.increment();
+        shard.tell(new ClusterSharding.Passivate<>(getContext().getSelf()));
+        return this;
+    }
+
+    private Behavior<Command> onPostStop() {
+        probe.stopped.countDown();
+        return this;
+    }
+}
@@ -0,0 +1,76 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import akka.cluster.sharding.typed.ShardingEnvelope;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Pings sharded entities one at a time through the local {@code ShardRegion} and records the round trips.
+ */
+public class ShardingPingActor extends AbstractBehavior<ShardingPingActor.Command> {
+    public interface Command extends CborSerializable {
+    }
+
+    public static class Start implements Command {
+    }
+
+    public static class Pong implements Command {
+    }
+
+    public static Behavior<Command> create(ActorRef<ShardingEnvelope<ShardedCountActor.Command>> region, int entityCount,
+                                           CountDownLatch finishLatch, int n, LatencyHistogram latencyHistogram) {
+        return Behaviors.setup(context -> new ShardingPingActor(context, region, entityCount, finishLatch, n, latencyHistogram));
+    }
+
+    private final ActorRef<ShardingEnvelope<ShardedCountActor.Command>> region;
+    private final int entityCount;
+    private final CountDownLatch finishLatch;
+    private final LatencyHistogram latencyHistogram;
+    private final ShardedCountActor.Ping ping;
+    private int i;
+
+    private ShardingPingActor(ActorContext<Command> context, ActorRef<ShardingEnvelope<ShardedCountActor.Command>> region,
+                              int entityCount, CountDownLatch finishLatch, int n, LatencyHistogram latencyHistogram) {
+        super(context);
+        this.region = region;
+        this.entityCount = entityCount;
+        this.finishLatch = finishLatch;
+        this.latencyHistogram = latencyHistogram;
+        this.ping = new ShardedCountActor.Ping(context.getSelf());
+        this.i = n;
+    }
+
+    @Override
+    public Receive<Command> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(Start.class, this::onStart)
+                .onMessage(Pong.class, this::onPong)
+                .build();
+    }
+
+    private Behavior<Command> onStart(Start start) {
+        latencyHistogram.record();
+        return sendPing();
+    }
+
+    private Behavior<Command> onPong(Pong pong) {
+        latencyHistogram.record();
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            return Behaviors.stopped();
+        }
+        return sendPing();
+    }
+
+    private Behavior<Command> sendPing() {
+        region.tell(new ShardingEnvelope<>(String.valueOf(i % entityCount), ping));
+        return this;
+    }
+}
@@ -0,0 +1,413 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.Behaviors;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Dispatches on {@link WideProtocol.Message#tag} with a hand-written {@code switch} inside {@code Behaviors.receiveMessage},
+ * one {@code switch} per supported protocol width.
+ */
+public class SwitchDispatchActor {
+    public static Behavior<WideProtocol.Message> create(int width, CountDownLatch finishLatch, int n) {
+        return Behaviors.setup(context -> {
+            SwitchDispatchActor actor = new SwitchDispatchActor(finishLatch, n);
+            switch (width) {
+                case 1:
+                    return Behaviors.receiveMessage(actor::dispatch1);
+                case 8:
+                    return Behaviors.receiveMessage(actor::dispatch8);
+                case 32:
+                    return Behaviors.receiveMessage(actor::dispatch32);
+                case 128:
+                    return Behaviors.receiveMessage(actor::dispatch128);
+                default:
+                    throw new IllegalArgumentException("unsupported protocol width: " + width);
+            }
+        });
+    }
+
+    private final CountDownLatch finishLatch;
+    private int i;
+
+    private SwitchDispatchActor(CountDownLatch finishLatch, int n) {
+        this.finishLatch = finishLatch;
+        this.i = n;
+    }
+
+    private Behavior<WideProtocol.Message> onMessage() {
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            return Behaviors.stopped();
+        }
+        return Behaviors.same();
+    }
+
+    private Behavior<WideProtocol.Message> dispatch1(WideProtocol.Message message) {
+        switch (message.tag) {
+            case 0:
+                return onMessage();
+            default:
+                return Behaviors.unhandled();
+        }
+    }
+
+    private Behavior<WideProtocol.Message> dispatch8(WideProtocol.Message message) {
+        switch (message.tag) {
+            case 0:
+                return onMessage();
+            case 1:
+                return onMessage();
+            case 2:
+                return onMessage();
+            case 3:
+                return onMessage();
+            case 4:
+                return onMessage();
+            case 5:
+                return onMessage();
+            case 6:
+                return onMessage();
+            case 7:
+                return onMessage();
+            default:
+                return Behaviors.unhandled();
+        }
+    }
+
+    private Behavior<WideProtocol.Message> dispatch32(WideProtocol.Message message) {
+        switch (message.tag) {
+            case 0:
+                return onMessage();
+            case 1:
+                return onMessage();
+            case 2:
+                return onMessage();
+            case 3:
+                return onMessage();
+            case 4:
+                return onMessage();
+            case 5:
+                return onMessage();
+            case 6:
+                return onMessage();
+            case 7:
+                return onMessage();
+            case 8:
+                return onMessage();
+            case 9:
+                return onMessage();
+            case 10:
+                return onMessage();
+            case 11:
+                return onMessage();
+            case 12:
+                return onMessage();
+            case 13:
+                return onMessage();
+            case 14:
+                return onMessage();
+            case 15:
+                return onMessage();
+            case 16:
+                return onMessage();
+            case 17:
+                return onMessage();
+            case 18:
+                return onMessage();
+            case 19:
+                return onMessage();
+            case 20:
+                return onMessage();
+            case 21:
+                return onMessage();
+            case 22:
+                return onMessage();
+            case 23:
+                return onMessage();
+            case 24:
+                return onMessage();
+            case 25:
+                return onMessage();
+            case 26:
+                return onMessage();
+            case 27:
+                return onMessage();
+            case 28:
+                return onMessage();
+            case 29:
+                return onMessage();
+            case 30:
+                return onMessage();
+            case 31:
+                return onMessage();
+            default:
+                return Behaviors.unhandled();
+        }
+    }
+
+    private Behavior<WideProtocol.Message> dispatch128(WideProtocol.Message message) {
+        switch (message.tag) {
+            case 0:
+                return onMessage();
+            case 1:
+                return onMessage();
+            case 2:
+                return onMessage();
+            case 3:
+                return onMessage();
+            case 4:
+                return onMessage();
+            case 5:
+                return onMessage();
+            case 6:
+                return onMessage();
+            case 7:
+                return onMessage();
+            case 8:
+                return onMessage();
+            case 9:
+                return onMessage();
+            case 10:
+                return onMessage();
+            case 11:
+                return onMessage();
+            case 12:
+                return onMessage();
+            case 13:
+                return onMessage();
+            case 14:
+                return onMessage();
+            case 15:
+                return onMessage();
+            case 16:
+                return onMessage();
+            case 17:
+                return onMessage();
+            case 18:
+                return onMessage();
+            case 19:
+                return onMessage();
+            case 20:
+                return onMessage();
+            case 21:
+                return onMessage();
+            case 22:
+                return onMessage();
+            case 23:
+                return onMessage();
+            case 24:
+                return onMessage();
+            case 25:
+                return onMessage();
+            case 26:
+                return onMessage();
+            case 27:
+                return onMessage();
+            case 28:
+                return onMessage();
+            case 29:
+                return onMessage();
+            case 30:
+                return onMessage();
+            case 31:
+                return onMessage();
+            case 32:
+                return onMessage();
+            case 33:
+                return onMessage();
+            case 34:
+                return onMessage();
+            case 35:
+                return onMessage();
+            case 36:
+                return onMessage();
+            case 37:
+                return onMessage();
+            case 38:
+                return onMessage();
+            case 39:
+                return onMessage();
+            case 40:
+                return onMessage();
+            case 41:
+                return onMessage();
+            case 42:
+                return onMessage();
+            case 43:
+                return onMessage();
+            case 44:
+                return onMessage();
+            case 45:
+                return onMessage();
+            case 46:
+                return onMessage();
+            case 47:
+                return onMessage();
+            case 48:
+                return onMessage();
+            case 49:
+                return onMessage();
+            case 50:
+                return onMessage();
+            case 51:
+                return onMessage();
+            case 52:
+                return onMessage();
+            case 53:
+                return onMessage();
+            case 54:
+                return onMessage();
+            case 55:
+                return onMessage();
+            case 56:
+                return onMessage();
+            case 57:
+                return onMessage();
+            case 58:
+                return onMessage();
+            case 59:
+                return onMessage();
+            case 60:
+                return onMessage();
+            case 61:
+                return onMessage();
+            case 62:
+                return onMessage();
+            case 63:
+                return onMessage();
+            case 64:
+                return onMessage();
+            case 65:
+                return onMessage();
+            case 66:
+                return onMessage();
+            case 67:
+                return onMessage();
+            case 68:
+                return onMessage();
+            case 69:
+                return onMessage();
+            case 70:
+                return onMessage();
+            case 71:
+                return onMessage();
+            case 72:
+                return onMessage();
+            case 73:
+                return onMessage();
+            case 74:
+                return onMessage();
+            case 75:
+                return onMessage();
+            case 76:
+                return onMessage();
+            case 77:
+                return onMessage();
+            case 78:
+                return onMessage();
+            case 79:
+                return onMessage();
+            case 80:
+                return onMessage();
+            case 81:
+                return onMessage();
+            case 82:
+                return onMessage();
+            case 83:
+                return onMessage();
+            case 84:
+                return onMessage();
+            case 85:
+                return onMessage();
+            case 86:
+                return onMessage();
+            case 87:
+                return onMessage();
+            case 88:
+                return onMessage();
+            case 89:
+                return onMessage();
+            case 90:
+                return onMessage();
+            case 91:
+                return onMessage();
+            case 92:
+                return onMessage();
+            case 93:
+                return onMessage();
+            case 94:
+                return onMessage();
+            case 95:
+                return onMessage();
+            case 96:
+                return onMessage();
+            case 97:
+                return onMessage();
+            case 98:
+                return onMessage();
+            case 99:
+                return onMessage();
+            case 100:
+                return onMessage();
+            case 101:
+                return onMessage();
+            case 102:
+                return onMessage();
+            case 103:
+                return onMessage();
+            case 104:
+                return onMessage();
+            case 105:
+                return onMessage();
+            case 106:
+                return onMessage();
+            case 107:
+                return onMessage();
+            case 108:
+                return onMessage();
+            case 109:
+                return onMessage();
+            case 110:
+                return onMessage();
+            case 111:
+                return onMessage();
+            case 112:
+                return onMessage();
+            case 113:
+                return onMessage();
+            case 114:
+                return onMessage();
+            case 115:
+                return onMessage();
+            case 116:
+                return onMessage();
+            case 117:
+                return onMessage();
+            case 118:
+                return onMessage();
+            case 119:
+                return onMessage();
+            case 120:
+                return onMessage();
+            case 121:
+                return onMessage();
+            case 122:
+                return onMessage();
+            case 123:
+                return onMessage();
+            case 124:
+                return onMessage();
+            case 125:
+                return onMessage();
+            case 126:
+                return onMessage();
+            case 127:
+                return onMessage();
+            default:
+                return Behaviors.unhandled();
+        }
+    }
+}
@@ -0,0 +1,676 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.Behaviors;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Dispatches through {@link WideProtocol.Visitor}, i.e. one virtual call on the message followed by an overloaded
+ * method per message type. It handles every type of {@link WideProtocol}, so unlike the other styles it takes no width.
+ */
+public class VisitorDispatchActor implements WideProtocol.Visitor<Behavior<WideProtocol.Message>> {
+    public static Behavior<WideProtocol.Message> create(CountDownLatch finishLatch, int n) {
+        return Behaviors.setup(context -> {
+            VisitorDispatchActor actor = new VisitorDispatchActor(finishLatch, n);
+            return Behaviors.receiveMessage(message -> message.accept(actor));
+        });
+    }
+
+    private final CountDownLatch finishLatch;
+    private int i;
+
+    private VisitorDispatchActor(CountDownLatch finishLatch, int n) {
+        this.finishLatch = finishLatch;
+        this.i = n;
+    }
+
+    private Behavior<WideProtocol.Message> onMessage() {
+        i--;
+        if (i == 0) {
+            finishLatch.countDown();
+            return Behaviors.stopped();
+        }
+        return Behaviors.same();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message0 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message1 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message2 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message3 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message4 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message5 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message6 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message7 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message8 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message9 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message10 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message11 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message12 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message13 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message14 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message15 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message16 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message17 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message18 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message19 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message20 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message21 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message22 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message23 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message24 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message25 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message26 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message27 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message28 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message29 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message30 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message31 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message32 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message33 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message34 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message35 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message36 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message37 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message38 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message39 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message40 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message41 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message42 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message43 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message44 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message45 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message46 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message47 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message48 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message49 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message50 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message51 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message52 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message53 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message54 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message55 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message56 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message57 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message58 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message59 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message60 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message61 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message62 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message63 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message64 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message65 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message66 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message67 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message68 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message69 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message70 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message71 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message72 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message73 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message74 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message75 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message76 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message77 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message78 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message79 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message80 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message81 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message82 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message83 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message84 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message85 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message86 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message87 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message88 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message89 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message90 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message91 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message92 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message93 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message94 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message95 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message96 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message97 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message98 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message99 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message100 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message101 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message102 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message103 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message104 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message105 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message106 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message107 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message108 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message109 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message110 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message111 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message112 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message113 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message114 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message115 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message116 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message117 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message118 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message119 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message120 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message121 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message122 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message123 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message124 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message125 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message126 message) {
+        return onMessage();
+    }
+
+    @Override
+    public Behavior<WideProtocol.Message> visit(WideProtocol.Message127 message) {
+        return onMessage();
+    }
+}
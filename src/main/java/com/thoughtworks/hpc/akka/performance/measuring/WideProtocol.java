@@ -0,0 +1,1725 @@
+package com.thoughtworks.hpc.akka.performance.measuring;
+
+/**
+ * A protocol of {@value #MAX_WIDTH} message types for the dispatch scenario. The types are spelled out instead of being
+ * generated at run time so that every dispatch style sees ordinary, separately loaded classes.
+ */
+public final class WideProtocol {
+    public static final int MAX_WIDTH = 128;
+
+    private WideProtocol() {
+    }
+
+    public abstract static class Message {
+        final int tag;
+
+        Message(int tag) {
+            this.tag = tag;
+        }
+
+        abstract <R> R accept(Visitor<R> visitor);
+    }
+
+    /**
+     * Exhaustive handling of the closed message hierarchy, the Java 8 counterpart of a switch over a sealed interface.
+     */
+    public interface Visitor<R> {
+        R visit(Message0 message);
+
+        R visit(Message1 message);
+
+        R visit(Message2 message);
+
+        R visit(Message3 message);
+
+        R visit(Message4 message);
+
+        R visit(Message5 message);
+
+        R visit(Message6 message);
+
+        R visit(Message7 message);
+
+        R visit(Message8 message);
+
+        R visit(Message9 message);
+
+        R visit(Message10 message);
+
+        R visit(Message11 message);
+
+        R visit(Message12 message);
+
+        R visit(Message13 message);
+
+        R visit(Message14 message);
+
+        R visit(Message15 message);
+
+        R visit(Message16 message);
+
+        R visit(Message17 message);
+
+        R visit(Message18 message);
+
+        R visit(Message19 message);
+
+        R visit(Message20 message);
+
+        R visit(Message21 message);
+
+        R visit(Message22 message);
+
+        R visit(Message23 message);
+
+        R visit(Message24 message);
+
+        R visit(Message25 message);
+
+        R visit(Message26 message);
+
+        R visit(Message27 message);
+
+        R visit(Message28 message);
+
+        R visit(Message29 message);
+
+        R visit(Message30 message);
+
+        R visit(Message31 message);
+
+        R visit(Message32 message);
+
+        R visit(Message33 message);
+
+        R visit(Message34 message);
+
+        R visit(Message35 message);
+
+        R visit(Message36 message);
+
+        R visit(Message37 message);
+
+        R visit(Message38 message);
+
+        R visit(Message39 message);
+
+        R visit(Message40 message);
+
+        R visit(Message41 message);
+
+        R visit(Message42 message);
+
+        R visit(Message43 message);
+
+        R visit(Message44 message);
+
+        R visit(Message45 message);
+
+        R visit(Message46 message);
+
+        R visit(Message47 message);
+
+        R visit(Message48 message);
+
+        R visit(Message49 message);
+
+        R visit(Message50 message);
+
+        R visit(Message51 message);
+
+        R visit(Message52 message);
+
+        R visit(Message53 message);
+
+        R visit(Message54 message);
+
+        R visit(Message55 message);
+
+        R visit(Message56 message);
+
+        R visit(Message57 message);
+
+        R visit(Message58 message);
+
+        R visit(Message59 message);
+
+        R visit(Message60 message);
+
+        R visit(Message61 message);
+
+        R visit(Message62 message);
+
+        R visit(Message63 message);
+
+        R visit(Message64 message);
+
+        R visit(Message65 message);
+
+        R visit(Message66 message);
+
+        R visit(Message67 message);
+
+        R visit(Message68 message);
+
+        R visit(Message69 message);
+
+        R visit(Message70 message);
+
+        R visit(Message71 message);
+
+        R visit(Message72 message);
+
+        R visit(Message73 message);
+
+        R visit(Message74 message);
+
+        R visit(Message75 message);
+
+        R visit(Message76 message);
+
+        R visit(Message77 message);
+
+        R visit(Message78 message);
+
+        R visit(Message79 message);
+
+        R visit(Message80 message);
+
+        R visit(Message81 message);
+
+        R visit(Message82 message);
+
+        R visit(Message83 message);
+
+        R visit(Message84 message);
+
+        R visit(Message85 message);
+
+        R visit(Message86 message);
+
+        R visit(Message87 message);
+
+        R visit(Message88 message);
+
+        R visit(Message89 message);
+
+        R visit(Message90 message);
+
+        R visit(Message91 message);
+
+        R visit(Message92 message);
+
+        R visit(Message93 message);
+
+        R visit(Message94 message);
+
+        R visit(Message95 message);
+
+        R visit(Message96 message);
+
+        R visit(Message97 message);
+
+        R visit(Message98 message);
+
+        R visit(Message99 message);
+
+        R visit(Message100 message);
+
+        R visit(Message101 message);
+
+        R visit(Message102 message);
+
+        R visit(Message103 message);
+
+        R visit(Message104 message);
+
+        R visit(Message105 message);
+
+        R visit(Message106 message);
+
+        R visit(Message107 message);
+
+        R visit(Message108 message);
+
+        R visit(Message109 message);
+
+        R visit(Message110 message);
+
+        R visit(Message111 message);
+
+        R visit(Message112 message);
+
+        R visit(Message113 message);
+
+        R visit(Message114 message);
+
+        R visit(Message115 message);
+
+        R visit(Message116 message);
+
+        R visit(Message117 message);
+
+        R visit(Message118 message);
+
+        R visit(Message119 message);
+
+        R visit(Message120 message);
+
+        R visit(Message121 message);
+
+        R visit(Message122 message);
+
+        R visit(Message123 message);
+
+        R visit(Message124 message);
+
+        R visit(Message125 message);
+
+        R visit(Message126 message);
+
+        R visit(Message127 message);
+    }
+
+    public static final class Message0 extends Message {
+        public Message0() {
+            super(0);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message1 extends Message {
+        public Message1() {
+            super(1);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message2 extends Message {
+        public Message2() {
+            super(2);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message3 extends Message {
+        public Message3() {
+            super(3);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message4 extends Message {
+        public Message4() {
+            super(4);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message5 extends Message {
+        public Message5() {
+            super(5);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message6 extends Message {
+        public Message6() {
+            super(6);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message7 extends Message {
+        public Message7() {
+            super(7);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message8 extends Message {
+        public Message8() {
+            super(8);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message9 extends Message {
+        public Message9() {
+            super(9);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message10 extends Message {
+        public Message10() {
+            super(10);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message11 extends Message {
+        public Message11() {
+            super(11);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message12 extends Message {
+        public Message12() {
+            super(12);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message13 extends Message {
+        public Message13() {
+            super(13);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message14 extends Message {
+        public Message14() {
+            super(14);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message15 extends Message {
+        public Message15() {
+            super(15);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message16 extends Message {
+        public Message16() {
+            super(16);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message17 extends Message {
+        public Message17() {
+            super(17);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message18 extends Message {
+        public Message18() {
+            super(18);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message19 extends Message {
+        public Message19() {
+            super(19);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message20 extends Message {
+        public Message20() {
+            super(20);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message21 extends Message {
+        public Message21() {
+            super(21);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message22 extends Message {
+        public Message22() {
+            super(22);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message23 extends Message {
+        public Message23() {
+            super(23);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message24 extends Message {
+        public Message24() {
+            super(24);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message25 extends Message {
+        public Message25() {
+            super(25);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message26 extends Message {
+        public Message26() {
+            super(26);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message27 extends Message {
+        public Message27() {
+            super(27);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message28 extends Message {
+        public Message28() {
+            super(28);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message29 extends Message {
+        public Message29() {
+            super(29);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message30 extends Message {
+        public Message30() {
+            super(30);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message31 extends Message {
+        public Message31() {
+            super(31);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message32 extends Message {
+        public Message32() {
+            super(32);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message33 extends Message {
+        public Message33() {
+            super(33);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message34 extends Message {
+        public Message34() {
+            super(34);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message35 extends Message {
+        public Message35() {
+            super(35);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message36 extends Message {
+        public Message36() {
+            super(36);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message37 extends Message {
+        public Message37() {
+            super(37);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message38 extends Message {
+        public Message38() {
+            super(38);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message39 extends Message {
+        public Message39() {
+            super(39);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message40 extends Message {
+        public Message40() {
+            super(40);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message41 extends Message {
+        public Message41() {
+            super(41);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message42 extends Message {
+        public Message42() {
+            super(42);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message43 extends Message {
+        public Message43() {
+            super(43);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message44 extends Message {
+        public Message44() {
+            super(44);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message45 extends Message {
+        public Message45() {
+            super(45);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message46 extends Message {
+        public Message46() {
+            super(46);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message47 extends Message {
+        public Message47() {
+            super(47);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message48 extends Message {
+        public Message48() {
+            super(48);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message49 extends Message {
+        public Message49() {
+            super(49);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message50 extends Message {
+        public Message50() {
+            super(50);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message51 extends Message {
+        public Message51() {
+            super(51);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message52 extends Message {
+        public Message52() {
+            super(52);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message53 extends Message {
+        public Message53() {
+            super(53);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message54 extends Message {
+        public Message54() {
+            super(54);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message55 extends Message {
+        public Message55() {
+            super(55);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message56 extends Message {
+        public Message56() {
+            super(56);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message57 extends Message {
+        public Message57() {
+            super(57);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message58 extends Message {
+        public Message58() {
+            super(58);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message59 extends Message {
+        public Message59() {
+            super(59);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message60 extends Message {
+        public Message60() {
+            super(60);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message61 extends Message {
+        public Message61() {
+            super(61);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message62 extends Message {
+        public Message62() {
+            super(62);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message63 extends Message {
+        public Message63() {
+            super(63);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message64 extends Message {
+        public Message64() {
+            super(64);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message65 extends Message {
+        public Message65() {
+            super(65);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message66 extends Message {
+        public Message66() {
+            super(66);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message67 extends Message {
+        public Message67() {
+            super(67);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message68 extends Message {
+        public Message68() {
+            super(68);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message69 extends Message {
+        public Message69() {
+            super(69);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message70 extends Message {
+        public Message70() {
+            super(70);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message71 extends Message {
+        public Message71() {
+            super(71);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message72 extends Message {
+        public Message72() {
+            super(72);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message73 extends Message {
+        public Message73() {
+            super(73);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message74 extends Message {
+        public Message74() {
+            super(74);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message75 extends Message {
+        public Message75() {
+            super(75);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message76 extends Message {
+        public Message76() {
+            super(76);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message77 extends Message {
+        public Message77() {
+            super(77);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message78 extends Message {
+        public Message78() {
+            super(78);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message79 extends Message {
+        public Message79() {
+            super(79);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message80 extends Message {
+        public Message80() {
+            super(80);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message81 extends Message {
+        public Message81() {
+            super(81);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message82 extends Message {
+        public Message82() {
+            super(82);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message83 extends Message {
+        public Message83() {
+            super(83);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message84 extends Message {
+        public Message84() {
+            super(84);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message85 extends Message {
+        public Message85() {
+            super(85);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message86 extends Message {
+        public Message86() {
+            super(86);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message87 extends Message {
+        public Message87() {
+            super(87);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message88 extends Message {
+        public Message88() {
+            super(88);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message89 extends Message {
+        public Message89() {
+            super(89);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message90 extends Message {
+        public Message90() {
+            super(90);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message91 extends Message {
+        public Message91() {
+            super(91);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message92 extends Message {
+        public Message92() {
+            super(92);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message93 extends Message {
+        public Message93() {
+            super(93);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message94 extends Message {
+        public Message94() {
+            super(94);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message95 extends Message {
+        public Message95() {
+            super(95);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message96 extends Message {
+        public Message96() {
+            super(96);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message97 extends Message {
+        public Message97() {
+            super(97);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message98 extends Message {
+        public Message98() {
+            super(98);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message99 extends Message {
+        public Message99() {
+            super(99);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message100 extends Message {
+        public Message100() {
+            super(100);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message101 extends Message {
+        public Message101() {
+            super(101);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message102 extends Message {
+        public Message102() {
+            super(102);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message103 extends Message {
+        public Message103() {
+            super(103);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message104 extends Message {
+        public Message104() {
+            super(104);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message105 extends Message {
+        public Message105() {
+            super(105);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message106 extends Message {
+        public Message106() {
+            super(106);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message107 extends Message {
+        public Message107() {
+            super(107);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message108 extends Message {
+        public Message108() {
+            super(108);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message109 extends Message {
+        public Message109() {
+            super(109);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message110 extends Message {
+        public Message110() {
+            super(110);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message111 extends Message {
+        public Message111() {
+            super(111);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message112 extends Message {
+        public Message112() {
+            super(112);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message113 extends Message {
+        public Message113() {
+            super(113);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message114 extends Message {
+        public Message114() {
+            super(114);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message115 extends Message {
+        public Message115() {
+            super(115);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message116 extends Message {
+        public Message116() {
+            super(116);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message117 extends Message {
+        public Message117() {
+            super(117);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message118 extends Message {
+        public Message118() {
+            super(118);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message119 extends Message {
+        public Message119() {
+            super(119);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message120 extends Message {
+        public Message120() {
+            super(120);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message121 extends Message {
+        public Message121() {
+            super(121);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message122 extends Message {
+        public Message122() {
+            super(122);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message123 extends Message {
+        public Message123() {
+            super(123);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message124 extends Message {
+        public Message124() {
+            super(124);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message125 extends Message {
+        public Message125() {
+            super(125);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message126 extends Message {
+        public Message126() {
+            super(126);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    public static final class Message127 extends Message {
+        public Message127() {
+            super(127);
+        }
+
+        @Override
+        <R> R accept(Visitor<R> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Class<? extends Message>[] MESSAGE_CLASSES = new Class[]{
+            Message0.class, Message1.class, Message2.class, Message3.class, Message4.class, Message5.class,
+            Message6.class, Message7.class, Message8.class, Message9.class, Message10.class, Message11.class,
+            Message12.class, Message13.class, Message14.class, Message15.class, Message16.class, Message17.class,
+            Message18.class, Message19.class, Message20.class, Message21.class, Message22.class, Message23.class,
+            Message24.class, Message25.class, Message26.class, Message27.class, Message28.class, Message29.class,
+            Message30.class, Message31.class, Message32.class, Message33.class, Message34.class, Message35.class,
+            Message36.class, Message37.class, Message38.class, Message39.class, Message40.class, Message41.class,
+            Message42.class, Message43.class, Message44.class, Message45.class, Message46.class, Message47.class,
+            Message48.class, Message49.class, Message50.class, Message51.class, Message52.class, Message53.class,
+            Message54.class, Message55.class, Message56.class, Message57.class, Message58.class, Message59.class,
+            Message60.class, Message61.class, Message62.class, Message63.class, Message64.class, Message65.class,
+            Message66.class, Message67.class, Message68.class, Message69.class, Message70.class, Message71.class,
+            Message72.class, Message73.class, Message74.class, Message75.class, Message76.class, Message77.class,
+            Message78.class, Message79.class, Message80.class, Message81.class, Message82.class, Message83.class,
+            Message84.class, Message85.class, Message86.class, Message87.class, Message88.class, Message89.class,
+            Message90.class, Message91.class, Message92.class, Message93.class, Message94.class, Message95.class,
+            Message96.class, Message97.class, Message98.class, Message99.class, Message100.class, Message101.class,
+            Message102.class, Message103.class, Message104.class, Message105.class, Message106.class, Message107.class,
+            Message108.class, Message109.class, Message110.class, Message111.class, Message112.class, Message113.class,
+            Message114.class, Message115.class, Message116.class, Message117.class, Message118.class, Message119.class,
+            Message120.class, Message121.class, Message122.class, Message123.class, Message124.class, Message125.class,
+            Message126.class, Message127.class
+    };
+
+    public static Message create(int tag) {
+        try {
+            return MESSAGE_CLASSES[tag].newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}